@@ -19,6 +19,26 @@ public interface Deck {
      */
     Card drawACard();
 
+    /**
+     * Draws the next {@linkplain Card cards} from the "top" of the deck, in
+     * the order {@link #drawACard()} would return them.
+     *
+     * @param n The number of cards to draw.
+     * @param into The array the cards are stored in, from index 0. Once the
+     *             deck is empty the remaining entries are {@link Card#NONE}.
+     * @return The number of cards drawn before the deck was empty.
+     */
+    default int drawCards(int n, Card[] into) {
+        int drawn = 0;
+        for (int i = 0; i < n; i++) {
+            into[i] = drawACard();
+            if (into[i] != Card.NONE) {
+                drawn++;
+            }
+        }
+        return drawn;
+    }
+
     /**
      * Returns the number of {@link Card cards} that have yet to be drawn.
      *
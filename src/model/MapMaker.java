@@ -1,5 +1,7 @@
 package model;
 
+import java.io.FileInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 
@@ -29,6 +31,27 @@ public interface MapMaker {
      */
     RailroadMap readMap(InputStream in) throws RailroadBaronsException;
 
+    /**
+     * Loads a {@linkplain RailroadMap map} from the map file to which the
+     * specified path refers. Implementations may return a map that shares
+     * its layout with maps previously loaded from the same file.
+     *
+     * @param path The path to the map file.
+     * @return The {@link RailroadMap map} read from the file.
+     *
+     * @throws RailroadBaronsException If there are any problems reading the
+     * file.
+     */
+    default RailroadMap readMap(String path) throws RailroadBaronsException {
+        try(InputStream in = new FileInputStream(path)) {
+            return readMap(in);
+        }
+        catch(IOException ioe) {
+            throw new RailroadBaronsException("Failed to load map: " +
+                    ioe.getMessage());
+        }
+    }
+
     /**
      * Writes the specified {@linkplain RailroadMap map} in the Railroad
      * Barons map file format to the given {@linkplain OutputStream output
@@ -145,6 +145,16 @@ public interface Player {
      */
     int getScore();
 
+    /**
+     * Returns the number of {@linkplain Track tracks} in the player's longest
+     * continuous railroad: the longest path through the player's claimed
+     * {@linkplain Route routes} that does not pass through any
+     * {@linkplain Station station} more than once.
+     *
+     * @return The length of the player's longest continuous railroad.
+     */
+    int getLongestRailroad();
+
     /**
      * Returns true iff the following conditions are true:
      *
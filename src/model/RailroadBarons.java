@@ -130,6 +130,17 @@ public interface RailroadBarons {
      */
     Collection<Player> getPlayers();
 
+    /**
+     * Returns the {@linkplain Player player} with the longest continuous
+     * railroad (see {@link Player#getLongestRailroad()}), for games played
+     * with the longest railroad scoring variant.
+     *
+     * @return The {@link Player} whose longest continuous railroad is longer
+     * than that of every other player, or null if no {@link Route} has been
+     * claimed or the longest railroads are tied.
+     */
+    Player getLongestRailroadPlayer();
+
     /**
      * Indicates whether or not the game is over. This occurs when no more
      * plays can be made. Reasons include:
@@ -0,0 +1,292 @@
+package student;
+
+import model.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.zip.CRC32;
+
+/**
+ * Binary RailroadBarons Map format, loaded without parsing any text
+ * <p>
+ * Layout, big endian:
+ * <ul>
+ * <li>header: magic "RBMB", version (short), reserved (short), station count,
+ * route count and name blob length (ints), CRC32 of everything after the header (int)</li>
+ * <li>station table: row, column, name offset and name length of each station (ints)</li>
+ * <li>route table: origin and destination station indices of each route (ints)</li>
+ * <li>owner table: Baron ordinal of the owner of each route (bytes)</li>
+ * <li>name blob: UTF-8 station names, each distinct name stored once</li>
+ * </ul>
+ *
+ * @author Shannon Quinn
+ * @author Brennan Reed
+ */
+
+public class BinaryMapFormat {
+
+    /**
+     * First bytes of every binary map
+     */
+    private static final byte[] MAGIC = {'R', 'B', 'M', 'B'};
+
+    /**
+     * Version written by this class, and the only version it reads
+     */
+    public static final short VERSION = 1;
+
+    /**
+     * Extension of binary map files
+     */
+    public static final String EXTENSION = ".rbbin";
+
+    /**
+     * Number of bytes in the header
+     */
+    private static final int HEADER_SIZE = 24;
+
+    /**
+     * Every Baron, indexed by ordinal
+     */
+    private static final Baron[] BARONS = Baron.values();
+
+    /**
+     * Determines whether data starts like a binary map
+     *
+     * @param data bytes of a map, from its position
+     * @return true if the data starts with the binary magic
+     */
+
+    public static boolean isBinary(ByteBuffer data) {
+        if (data.remaining() < MAGIC.length){
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (data.get(data.position() + i) != MAGIC[i]){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes a map in the binary format
+     *
+     * @param map the map
+     * @param out stream the map is written to, left open
+     * @throws RailroadBaronsException If the map could not be written
+     */
+
+    public static void write(RailroadMap map, OutputStream out) throws RailroadBaronsException {
+        List<Station> stations;
+        if (map instanceof RailroadMapImplementation){
+            stations = ((RailroadMapImplementation) map).getStations();
+        } else {
+            Set<Station> seen = new LinkedHashSet<>();
+            for (Route route: map.getRoutes()) {
+                seen.add(route.getOrigin());
+                seen.add(route.getDestination());
+            }
+            stations = new ArrayList<>(seen);
+        }
+        Map<Station, Integer> indices = new HashMap<>();
+        Map<String, Integer> nameOffsets = new HashMap<>();
+        List<byte[]> names = new ArrayList<>();
+        int[] nameOffset = new int[stations.size()];
+        int[] nameLength = new int[stations.size()];
+        int blobLength = 0;
+        for (int i = 0; i < stations.size(); i++) {
+            Station station = stations.get(i);
+            indices.put(station, i);
+            byte[] name = station.getName().getBytes(StandardCharsets.UTF_8);
+            Integer offset = nameOffsets.get(station.getName());
+            if (offset == null){
+                offset = blobLength;
+                nameOffsets.put(station.getName(), offset);
+                names.add(name);
+                blobLength += name.length;
+            }
+            nameOffset[i] = offset;
+            nameLength[i] = name.length;
+        }
+
+        Collection<Route> routes = map.getRoutes();
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + stations.size() * 16 + routes.size() * 9 + blobLength);
+        buffer.put(MAGIC).putShort(VERSION).putShort((short) 0);
+        buffer.putInt(stations.size()).putInt(routes.size()).putInt(blobLength).putInt(0);
+        for (int i = 0; i < stations.size(); i++) {
+            buffer.putInt(stations.get(i).getRow()).putInt(stations.get(i).getCol());
+            buffer.putInt(nameOffset[i]).putInt(nameLength[i]);
+        }
+        for (Route route: routes) {
+            buffer.putInt(indices.get(route.getOrigin())).putInt(indices.get(route.getDestination()));
+        }
+        for (Route route: routes) {
+            buffer.put((byte) route.getBaron().ordinal());
+        }
+        for (byte[] name: names) {
+            buffer.put(name);
+        }
+        buffer.putInt(HEADER_SIZE - 4, checksum(buffer, HEADER_SIZE, buffer.capacity()));
+        try {
+            out.write(buffer.array());
+            out.flush();
+        }
+        catch (IOException e){
+            throw new RailroadBaronsException("There were problems writing the binary map.");
+        }
+    }
+
+    /**
+     * Reads a map in the binary format
+     *
+     * @param data bytes of the map, from its position to its limit
+     * @return the map
+     * @throws RailroadBaronsException If the data is not a valid binary map
+     */
+
+    public static RailroadMap read(ByteBuffer data) throws RailroadBaronsException {
+        int start = data.position();
+        int size = data.limit() - start;
+        if (size < HEADER_SIZE || !isBinary(data)){
+            throw new RailroadBaronsException("Not a binary map.");
+        }
+        short version = data.getShort(start + 4);
+        if (version != VERSION){
+            throw new RailroadBaronsException("Unsupported binary map version " + version + ".");
+        }
+        int stationCount = data.getInt(start + 8);
+        int routeCount = data.getInt(start + 12);
+        int blobLength = data.getInt(start + 16);
+        if (stationCount <= 0 || routeCount < 0 || blobLength < 0
+                || HEADER_SIZE + stationCount * 16L + routeCount * 9L + blobLength != size){
+            throw new RailroadBaronsException("The binary map is truncated or has an invalid header.");
+        }
+        if (checksum(data, start + HEADER_SIZE, start + size) != data.getInt(start + HEADER_SIZE - 4)){
+            throw new RailroadBaronsException("The binary map checksum does not match.");
+        }
+
+        int stationTable = start + HEADER_SIZE;
+        int routeTable = stationTable + stationCount * 16;
+        int ownerTable = routeTable + routeCount * 8;
+        int blob = ownerTable + routeCount;
+        MapValidator validator = new MapValidator();
+        Map<Long, String> names = new HashMap<>();
+        List<Station> stations = new ArrayList<>(stationCount);
+        for (int i = 0; i < stationCount; i++) {
+            int entry = stationTable + i * 16;
+            int offset = data.getInt(entry + 8);
+            int length = data.getInt(entry + 12);
+            if (offset < 0 || length < 0 || (long) offset + length > blobLength){
+                throw new RailroadBaronsException("Station " + i + " of the binary map has an invalid name.");
+            }
+            String name = names.get(((long) offset << 32) | length);
+            if (name == null){
+                byte[] bytes = new byte[length];
+                for (int b = 0; b < length; b++) {
+                    bytes[b] = data.get(blob + offset + b);
+                }
+                name = new String(bytes, StandardCharsets.UTF_8);
+                names.put(((long) offset << 32) | length, name);
+            }
+            validator.addStation(i, data.getInt(entry), data.getInt(entry + 4), 0);
+            stations.add(new StationImplementation(i, data.getInt(entry), data.getInt(entry + 4), name));
+        }
+
+        for (int i = 0; i < routeCount; i++) {
+            validator.addRoute(data.getInt(routeTable + i * 8), data.getInt(routeTable + i * 8 + 4), 0);
+            int owner = data.get(ownerTable + i);
+            if (owner < 0 || owner >= BARONS.length){
+                validator.addProblem(0, "route " + i + " has an unknown owner " + owner);
+            }
+        }
+        validator.check();
+
+        Set<Route> routes = new LinkedHashSet<>();
+        for (int i = 0; i < routeCount; i++) {
+            Station from = stations.get(data.getInt(routeTable + i * 8));
+            Station to = stations.get(data.getInt(routeTable + i * 8 + 4));
+            routes.add(new RouteImplementation(from, to, BARONS[data.get(ownerTable + i)]));
+        }
+        return new RailroadMapImplementation(routes, stations);
+    }
+
+    /**
+     * Reads a binary map file by mapping it into memory
+     *
+     * @param path path of the file
+     * @return the map
+     * @throws RailroadBaronsException If the file could not be read or is not a valid binary map
+     */
+
+    public static RailroadMap read(Path path) throws RailroadBaronsException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE){
+                throw new RailroadBaronsException("The map file is too large: " + path);
+            }
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+        catch (IOException e){
+            throw new RailroadBaronsException("There were problems reading the map file " + path + ".");
+        }
+    }
+
+    /**
+     * @param data bytes to be checked
+     * @param from index of the first byte
+     * @param to index after the last byte
+     * @return CRC32 of the bytes
+     */
+
+    private static int checksum(ByteBuffer data, int from, int to) {
+        CRC32 crc = new CRC32();
+        ByteBuffer range = data.duplicate();
+        range.limit(to).position(from);
+        crc.update(range);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Converts text map files to binary map files written next to them, replacing the
+     * extension with {@value #EXTENSION}. Directories are converted file by file.
+     *
+     * @param args paths of .rbmap files or of directories containing them
+     * @throws Exception If a map could not be converted
+     */
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0){
+            System.err.println("Usage: java student.BinaryMapFormat <map.rbmap | directory>...");
+            return;
+        }
+        MapMakerImplementation mapMaker = new MapMakerImplementation();
+        for (String arg: args) {
+            List<Path> files = new ArrayList<>();
+            Path path = Paths.get(arg);
+            if (Files.isDirectory(path)){
+                try (DirectoryStream<Path> entries = Files.newDirectoryStream(path, "*.rbmap")) {
+                    entries.forEach(files::add);
+                }
+            } else {
+                files.add(path);
+            }
+            for (Path file: files) {
+                String name = file.getFileName().toString();
+                Path target = file.resolveSibling(name.replaceFirst("\\.rbmap$", "") + EXTENSION);
+                try (OutputStream out = Files.newOutputStream(target)) {
+                    write(mapMaker.readMap(file), out);
+                }
+                System.out.println(file + " -> " + target);
+            }
+        }
+    }
+}
@@ -0,0 +1,368 @@
+package student;
+
+import model.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Append-only journal of the routes claimed in a game
+ * Instead of rewriting the whole map, each claim is appended as a record of a few bytes:
+ * the route's index and the turn as unsigned varints, then the Baron's ordinal. The header
+ * names the map the claims belong to by its {@linkplain MapTemplate#getContentHash()
+ * content hash}, and loading replays the claims onto a new game of a shared template.
+ * A record cut off by a crash while it was appended is ignored.
+ * <p>
+ * Only the owner of each claimed route is restored. Cards, pieces, scores and the route
+ * networks of the players are not journaled, so a game started on a replayed map keeps
+ * those routes claimed, out of every player's reach, while its players start afresh.
+ * <p>
+ * Header, big endian: magic "RBCJ", version (short), reserved (short), content hash of
+ * the map (long), route count (int)
+ *
+ * @author Shannon Quinn
+ * @author Brennan Reed
+ */
+
+public class ClaimJournal implements RailroadMapObserver, RailroadBaronsObserver {
+
+    /**
+     * First bytes of every journal
+     */
+    private static final byte[] MAGIC = {'R', 'B', 'C', 'J'};
+
+    /**
+     * Version written by this class, and the only version it reads
+     */
+    public static final short VERSION = 1;
+
+    /**
+     * Extension of journal files
+     */
+    public static final String EXTENSION = ".rbjournal";
+
+    /**
+     * Number of bytes in the header
+     */
+    private static final int HEADER_SIZE = 20;
+
+    /**
+     * Every Baron, indexed by ordinal
+     */
+    private static final Baron[] BARONS = Baron.values();
+
+    /**
+     * Stream the records are appended to
+     */
+    private final OutputStream out;
+
+    /**
+     * Bytes of the record being appended, two varints and a byte
+     */
+    private final byte[] record;
+
+    /**
+     * Number of turns started so far
+     */
+    private int turn;
+
+    /**
+     * creates instance of class, writing the header
+     *
+     * @param out stream the journal is written to
+     * @param template layout of the map the claims are made on
+     * @throws IOException If the header could not be written
+     */
+
+    public ClaimJournal(OutputStream out, MapTemplate template) throws IOException {
+        this(out, 0);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.put(MAGIC).putShort(VERSION).putShort((short) 0);
+        header.putLong(template.getContentHash()).putInt(template.getRouteList().size());
+        out.write(header.array());
+        out.flush();
+    }
+
+    /**
+     * creates instance of class that continues a journal
+     *
+     * @param out stream positioned after the last complete record
+     * @param turn turn of the last record
+     */
+
+    private ClaimJournal(OutputStream out, int turn) {
+        this.out = out;
+        this.turn = turn;
+        record = new byte[11];
+    }
+
+    /**
+     * Opens a journal file to append to, creating it if it does not exist. An existing
+     * journal must belong to the same map, a record it ends with that was cut off is
+     * removed, and turns continue from its last record.
+     *
+     * @param path path of the journal
+     * @param template layout of the map the claims are made on
+     * @return the journal
+     * @throws RailroadBaronsException If the file could not be opened or belongs to another map
+     */
+
+    public static ClaimJournal open(Path path, MapTemplate template) throws RailroadBaronsException {
+        try {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            try {
+                if (channel.size() == 0){
+                    return new ClaimJournal(Channels.newOutputStream(channel), template);
+                }
+                if (channel.size() > Integer.MAX_VALUE){
+                    throw new RailroadBaronsException("The journal is too large: " + path);
+                }
+                int[] lastTurn = new int[1];
+                int end = replay(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()),
+                        template, null, lastTurn);
+                channel.truncate(end);
+                channel.position(end);
+                return new ClaimJournal(Channels.newOutputStream(channel), lastTurn[0]);
+            }
+            catch (IOException | RailroadBaronsException | RuntimeException e){
+                channel.close();
+                throw e;
+            }
+        }
+        catch (IOException e){
+            throw new RailroadBaronsException("There were problems opening the journal " + path + ".");
+        }
+    }
+
+    /**
+     * Appends a claim
+     *
+     * @param routeId index of the route in the template
+     * @param baron the Baron that claimed the route
+     * @param turn turn the route was claimed on
+     * @throws IOException If the record could not be written
+     */
+
+    public void record(int routeId, Baron baron, int turn) throws IOException {
+        int length = putVarint(record, 0, routeId);
+        length = putVarint(record, length, turn);
+        record[length++] = (byte) baron.ordinal();
+        out.write(record, 0, length);
+        out.flush();
+    }
+
+    /**
+     * Records a route claimed on the map in the current turn
+     *
+     * @param map The {@link RailroadMap} on which the route was claimed.
+     * @param route The {@link Route} that has been claimed.
+     */
+
+    @Override
+    public void routeClaimed(RailroadMap map, Route route) {
+        // games notify the map even when a claim failed, so only record routes that have an owner
+        if (route.getBaron() != Baron.UNCLAIMED){
+            try {
+                record(((RailroadMapImplementation) map).getRouteIndex(route), route.getBaron(), turn);
+            }
+            catch (IOException e){
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Counts the turn
+     *
+     * @param game The game in which the turn started.
+     * @param player The player whose turn it is.
+     */
+
+    @Override
+    public void turnStarted(RailroadBarons game, Player player) { turn++; }
+
+    /**
+     * @param game The game in which the turn ended.
+     * @param player The player whose turn ended.
+     */
+
+    @Override
+    public void turnEnded(RailroadBarons game, Player player) {}
+
+    /**
+     * @param game The game that is over.
+     * @param winner The player that won the game.
+     */
+
+    @Override
+    public void gameOver(RailroadBarons game, Player winner) {}
+
+    /**
+     * @return number of turns started so far, the turn recorded with claims
+     */
+
+    public int getTurn() { return turn; }
+
+    /**
+     * Closes the stream the journal is written to
+     *
+     * @throws IOException If the stream could not be closed
+     */
+
+    public void close() throws IOException { out.close(); }
+
+    /**
+     * Replays a journal onto a new game of a template, restoring only the owners of the
+     * claimed routes
+     *
+     * @param data bytes of the journal, from its position to its limit
+     * @param template layout of the map the journal belongs to
+     * @return a new game with the journal's claims
+     * @throws RailroadBaronsException If the journal is not valid or belongs to another map
+     */
+
+    public static RailroadMapImplementation replay(ByteBuffer data, MapTemplate template)
+            throws RailroadBaronsException {
+        RailroadMapImplementation map = new RailroadMapImplementation(template);
+        replay(data, template, map, new int[1]);
+        return map;
+    }
+
+    /**
+     * Replays a journal file onto a new game of a template, mapping the file into memory,
+     * restoring only the owners of the claimed routes
+     *
+     * @param path path of the journal
+     * @param template layout of the map the journal belongs to
+     * @return a new game with the journal's claims
+     * @throws RailroadBaronsException If the file could not be read, is not valid or belongs to another map
+     */
+
+    public static RailroadMapImplementation replay(Path path, MapTemplate template) throws RailroadBaronsException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE){
+                throw new RailroadBaronsException("The journal is too large: " + path);
+            }
+            return replay(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), template);
+        }
+        catch (IOException e){
+            throw new RailroadBaronsException("There were problems reading the journal " + path + ".");
+        }
+    }
+
+    /**
+     * Checks a journal and claims its routes
+     *
+     * @param data bytes of the journal, from its position to its limit
+     * @param template layout of the map the journal belongs to
+     * @param map game the routes are claimed in, null to only check the journal
+     * @param lastTurn set to the turn of the last record
+     * @return index after the last complete record
+     * @throws RailroadBaronsException If the journal is not valid or belongs to another map
+     */
+
+    private static int replay(ByteBuffer data, MapTemplate template, RailroadMapImplementation map,
+                              int[] lastTurn) throws RailroadBaronsException {
+        int start = data.position();
+        int limit = data.limit();
+        if (limit - start < HEADER_SIZE){
+            throw new RailroadBaronsException("The journal is truncated.");
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (data.get(start + i) != MAGIC[i]){
+                throw new RailroadBaronsException("Not a claim journal.");
+            }
+        }
+        short version = data.getShort(start + 4);
+        if (version != VERSION){
+            throw new RailroadBaronsException("Unsupported journal version " + version + ".");
+        }
+        int routeCount = template.getRouteList().size();
+        if (data.getLong(start + 8) != template.getContentHash() || data.getInt(start + 16) != routeCount){
+            throw new RailroadBaronsException("The journal belongs to a different map.");
+        }
+
+        boolean[] claimed = map == null ? new boolean[routeCount] : null;
+        int position = start + HEADER_SIZE;
+        int[] cursor = new int[1];
+        for (int index = 0; position < limit; index++) {
+            cursor[0] = position;
+            long routeId = getVarint(data, cursor, limit);
+            long turn = routeId < 0 ? -1 : getVarint(data, cursor, limit);
+            if (turn < 0 || cursor[0] >= limit){
+                break;
+            }
+            int owner = data.get(cursor[0]++);
+            if (routeId >= routeCount || owner <= Baron.UNCLAIMED.ordinal() || owner >= BARONS.length
+                    || turn > Integer.MAX_VALUE){
+                throw new RailroadBaronsException("Record " + index + " of the journal is invalid.");
+            }
+            int id = (int) routeId;
+            boolean unclaimed = map == null ? !claimed[id] && template.getOwner(id) == Baron.UNCLAIMED.ordinal()
+                    : map.getRouteList().get(id).claim(BARONS[owner]);
+            if (!unclaimed){
+                throw new RailroadBaronsException("Record " + index + " of the journal claims route "
+                        + id + ", which is already claimed.");
+            }
+            if (map == null){
+                claimed[id] = true;
+            } else {
+                Route route = map.getRouteList().get(id);
+                map.routeClaimed(route);
+                map.getRouteNetwork().claim(route, BARONS[owner]);
+            }
+            lastTurn[0] = (int) turn;
+            position = cursor[0];
+        }
+        return position;
+    }
+
+    /**
+     * @param bytes array the varint is written to
+     * @param offset index of the first byte
+     * @param value a non-negative number
+     * @return index after the last byte written
+     */
+
+    private static int putVarint(byte[] bytes, int offset, int value) {
+        while ((value & ~0x7F) != 0) {
+            bytes[offset++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[offset++] = (byte) value;
+        return offset;
+    }
+
+    /**
+     * @param data bytes of the journal
+     * @param cursor index of the first byte, advanced past the varint
+     * @param limit index after the last byte of the journal
+     * @return the number, or -1 if the varint is cut off by the limit
+     * @throws RailroadBaronsException If the varint is longer than an int can need
+     */
+
+    private static long getVarint(ByteBuffer data, int[] cursor, int limit) throws RailroadBaronsException {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            if (cursor[0] >= limit){
+                return -1;
+            }
+            if (shift > 28){
+                throw new RailroadBaronsException("The journal has an invalid record.");
+            }
+            byte b = data.get(cursor[0]++);
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0){
+                return value;
+            }
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package student;
+
+import java.util.*;
+
+/**
+ * Representation of an undirected Graph Structure over dense integer vertex ids
+ * Adjacency is stored in compressed sparse row arrays, edges added after the last
+ * compaction are kept in an append buffer until the next compaction
+ *
+ * @author Shannon Quinn
+ * @author Brennan Reed
+ */
+
+public class CompactGraph {
+
+    /**
+     * smallest append buffer that triggers a compaction
+     */
+    private static final int MIN_COMPACTION = 32;
+
+    /**
+     * number of vertices in the graph, ids are 0 to vertexCount-1
+     */
+    private int vertexCount;
+
+    /**
+     * number of edges in the graph
+     */
+    private int edgeCount;
+
+    /**
+     * endpoints of every edge, indexed by edge id
+     */
+    private int[] edgeSource, edgeTarget;
+
+    /**
+     * start of each vertex's adjacency in targets, offsets[vertexCount] is the end
+     */
+    private int[] offsets;
+
+    /**
+     * compacted adjacency: neighbor and edge id of each entry
+     */
+    private int[] targets, targetEdges;
+
+    /**
+     * first append buffer entry of each vertex, -1 if none
+     */
+    private int[] appendHead;
+
+    /**
+     * append buffer entries: next entry of the same vertex and the edge id
+     */
+    private int[] appendNext, appendEdges;
+
+    /**
+     * number of entries in the append buffer
+     */
+    private int appendCount;
+
+    /**
+     * creates instance of class
+     *
+     * @param vertexCount number of vertices in the graph
+     */
+
+    public CompactGraph(int vertexCount) {
+        this.vertexCount = vertexCount;
+        edgeSource = new int[8];
+        edgeTarget = new int[8];
+        offsets = new int[vertexCount + 1];
+        targets = new int[0];
+        targetEdges = new int[0];
+        appendHead = new int[vertexCount];
+        Arrays.fill(appendHead, -1);
+        appendNext = new int[16];
+        appendEdges = new int[16];
+    }
+
+    /**
+     * Adds an unconnected vertex to the graph
+     *
+     * @return the id of the new vertex
+     */
+
+    public int addVertex() {
+        if (vertexCount + 1 == offsets.length){
+            offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            appendHead = Arrays.copyOf(appendHead, offsets.length - 1);
+        }
+        offsets[vertexCount + 1] = offsets[vertexCount];
+        appendHead[vertexCount] = -1;
+        return vertexCount++;
+    }
+
+    /**
+     * @return number of vertices in the graph
+     */
+
+    public int getVertexCount() { return vertexCount; }
+
+    /**
+     * @return number of edges in the graph
+     */
+
+    public int getEdgeCount() { return edgeCount; }
+
+    /**
+     * @param edge id of an edge
+     * @return the vertex the edge was added from
+     */
+
+    public int getEdgeSource(int edge) { return edgeSource[edge]; }
+
+    /**
+     * @param edge id of an edge
+     * @return the vertex the edge was added to
+     */
+
+    public int getEdgeTarget(int edge) { return edgeTarget[edge]; }
+
+    /**
+     * Adds a bi-directional edge to the graph
+     *
+     * @param vertex1 vertex to be connected
+     * @param vertex2 vertex to be connected
+     * @return the id of the new edge
+     */
+
+    public int addEdge(int vertex1, int vertex2) {
+        if (edgeCount == edgeSource.length){
+            edgeSource = Arrays.copyOf(edgeSource, edgeCount * 2);
+            edgeTarget = Arrays.copyOf(edgeTarget, edgeCount * 2);
+        }
+        int edge = edgeCount++;
+        edgeSource[edge] = vertex1;
+        edgeTarget[edge] = vertex2;
+
+        if (appendCount + 2 > appendNext.length){
+            appendNext = Arrays.copyOf(appendNext, appendNext.length * 2);
+            appendEdges = Arrays.copyOf(appendEdges, appendEdges.length * 2);
+        }
+        append(vertex1, edge);
+        append(vertex2, edge);
+
+        if (appendCount > Math.max(MIN_COMPACTION, targets.length / 2)){
+            compact();
+        }
+        return edge;
+    }
+
+    /**
+     * Moves every edge in the append buffer into the compressed adjacency arrays
+     */
+
+    public void compact() {
+        if (appendCount == 0){
+            return;
+        }
+        int[] newOffsets = new int[offsets.length];
+        for (int edge = 0; edge < edgeCount; edge++) {
+            newOffsets[edgeSource[edge] + 1]++;
+            newOffsets[edgeTarget[edge] + 1]++;
+        }
+        for (int v = 0; v < vertexCount; v++) {
+            newOffsets[v + 1] += newOffsets[v];
+        }
+        int[] fill = Arrays.copyOf(newOffsets, vertexCount);
+        int[] newTargets = new int[edgeCount * 2];
+        int[] newEdges = new int[edgeCount * 2];
+        for (int edge = 0; edge < edgeCount; edge++) {
+            int source = edgeSource[edge];
+            int target = edgeTarget[edge];
+            newTargets[fill[source]] = target;
+            newEdges[fill[source]++] = edge;
+            newTargets[fill[target]] = source;
+            newEdges[fill[target]++] = edge;
+        }
+        offsets = newOffsets;
+        targets = newTargets;
+        targetEdges = newEdges;
+        Arrays.fill(appendHead, 0, vertexCount, -1);
+        appendCount = 0;
+    }
+
+    /**
+     * @param vertex id of a vertex
+     * @return number of edges incident to the vertex
+     */
+
+    public int degree(int vertex) {
+        int degree = offsets[vertex + 1] - offsets[vertex];
+        for (int entry = appendHead[vertex]; entry != -1; entry = appendNext[entry]) {
+            degree++;
+        }
+        return degree;
+    }
+
+    /**
+     * Copies the neighbors of a vertex into the given array
+     *
+     * @param vertex id of a vertex
+     * @param into array of at least {@link #degree(int)} elements
+     * @return number of neighbors copied
+     */
+
+    public int neighbors(int vertex, int[] into) {
+        int count = 0;
+        for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++) {
+            into[count++] = targets[i];
+        }
+        for (int entry = appendHead[vertex]; entry != -1; entry = appendNext[entry]) {
+            into[count++] = opposite(appendEdges[entry], vertex);
+        }
+        return count;
+    }
+
+    /**
+     * Copies the ids of the edges incident to a vertex into the given array
+     *
+     * @param vertex id of a vertex
+     * @param into array of at least {@link #degree(int)} elements
+     * @return number of edges copied
+     */
+
+    public int incidentEdges(int vertex, int[] into) {
+        int count = 0;
+        for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++) {
+            into[count++] = targetEdges[i];
+        }
+        for (int entry = appendHead[vertex]; entry != -1; entry = appendNext[entry]) {
+            into[count++] = appendEdges[entry];
+        }
+        return count;
+    }
+
+    /**
+     * Adds an edge to the append buffer of a vertex
+     *
+     * @param vertex id of the vertex
+     * @param edge id of the edge
+     */
+
+    private void append(int vertex, int edge) {
+        appendNext[appendCount] = appendHead[vertex];
+        appendEdges[appendCount] = edge;
+        appendHead[vertex] = appendCount++;
+    }
+
+    /**
+     * @param edge id of an edge
+     * @param vertex one endpoint of the edge
+     * @return the other endpoint of the edge
+     */
+
+    private int opposite(int edge, int vertex) {
+        return edgeSource[edge] == vertex ? edgeTarget[edge] : edgeSource[edge];
+    }
+}
@@ -0,0 +1,138 @@
+package student;
+
+import model.Card;
+import model.Deck;
+
+import java.util.SplittableRandom;
+
+/**
+ * Deck that keeps only the number of each card remaining
+ * The next card is sampled from the remaining counts when it is drawn, which deals the
+ * cards with the same probabilities as drawing from a shuffled deck without ever
+ * creating one. Resetting restores the counts, and the number of each card left can be
+ * queried at any time, whatever the size of the deck.
+ *
+ * @author Shannon Quinn
+ * @author Brennan Reed
+ */
+
+public class CountingDeck implements Deck {
+
+    /**
+     * Number of each playable card in the default deck
+     */
+    public static final int DEFAULT_COPIES = 20;
+
+    /**
+     * Cards that are dealt, every card but NONE and BACK
+     */
+    private static final Card[] PLAYABLE = {Card.WILD, Card.BLACK, Card.BLUE, Card.GREEN, Card.ORANGE,
+            Card.PINK, Card.RED, Card.WHITE, Card.YELLOW};
+
+    /**
+     * Number of each playable card in a full deck
+     */
+    private final int copies;
+
+    /**
+     * Number of each card remaining, indexed by ordinal
+     */
+    private final int[] remaining;
+
+    /**
+     * Number of cards remaining
+     */
+    private int total;
+
+    /**
+     * Source of the draws
+     */
+    private final SplittableRandom random;
+
+    /**
+     * Creates an instance of Deck with 20 of each playable card
+     */
+
+    public CountingDeck() { this(DEFAULT_COPIES, new SplittableRandom()); }
+
+    /**
+     * Creates an instance of Deck with 20 of each playable card whose draws are
+     * determined by a seed
+     *
+     * @param seed seed of the draws
+     */
+
+    public CountingDeck(long seed) { this(DEFAULT_COPIES, new SplittableRandom(seed)); }
+
+    /**
+     * Creates an instance of Deck
+     *
+     * @param copies number of each playable card, larger for games with more players
+     * @param random source of the draws
+     */
+
+    public CountingDeck(int copies, SplittableRandom random) {
+        if (copies < 0 || (long) copies * PLAYABLE.length > Integer.MAX_VALUE){
+            throw new IllegalArgumentException("Invalid number of copies: " + copies);
+        }
+        this.copies = copies;
+        this.random = random;
+        remaining = new int[Card.values().length];
+        reset();
+    }
+
+    /**
+     * Resets the {@linkplain Deck deck} to its starting state. Restores any
+     * {@linkplain Card cards} that were drawn.
+     */
+
+    @Override
+    public void reset() {
+        for (Card card: PLAYABLE) {
+            remaining[card.ordinal()] = copies;
+        }
+        total = copies * PLAYABLE.length;
+    }
+
+    /**
+     * Draws a {@linkplain Card card} at random from the remaining cards.
+     *
+     * @return The next {@link Card}, unless the deck is empty, in which case
+     * this should return {@link Card#NONE}.
+     */
+
+    @Override
+    public Card drawACard() {
+        if (total == 0){
+            return Card.NONE;
+        }
+        int pick = random.nextInt(total);
+        for (Card card: PLAYABLE) {
+            pick -= remaining[card.ordinal()];
+            if (pick < 0){
+                remaining[card.ordinal()]--;
+                total--;
+                return card;
+            }
+        }
+        throw new IllegalStateException("The remaining counts do not add up to the total.");
+    }
+
+    /**
+     * Returns the number of {@link Card cards} that have yet to be drawn.
+     *
+     * @return The number of {@link Card cards} that have yet to be drawn.
+     */
+
+    @Override
+    public int numberOfCardsRemaining() { return total; }
+
+    /**
+     * Returns the number of a {@link Card card} that has yet to be drawn
+     *
+     * @param card a card
+     * @return The number of copies of the card that have yet to be drawn.
+     */
+
+    public int remaining(Card card) { return remaining[card.ordinal()]; }
+}
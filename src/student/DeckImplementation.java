@@ -4,11 +4,15 @@ import model.Deck;
 
 
 import java.util.Arrays;
-import java.util.Stack;
+import java.util.SplittableRandom;
 
 /**
  * Implementation of the Deck interface
  * Represents a deck of cards used in the RailroadBarons game
+ * The cards are kept as ordinals in a byte array with a cursor at the top of the deck,
+ * and are shuffled with a SplittableRandom that can be seeded, so dealing is reproducible
+ * and draws neither lock nor allocate. A Zobrist fingerprint of the remaining cards is
+ * kept up to date on every draw, so decks can be compared and hashed in constant time.
  *
  * @author Shannon Quinn
  * @author Brennan Reed
@@ -17,15 +21,65 @@ import java.util.Stack;
 public class DeckImplementation implements Deck {
 
     /**
-     * Stack that contains the remaining Cards
+     * Number of each playable card in the deck
      */
-    private Stack<Card> cards;
+    private static final int COPIES = 20;
+
+    /**
+     * Every card, indexed by ordinal
+     */
+    private static final Card[] CARDS = Card.values();
+
+    /**
+     * Ordinals of the cards of the deck before shuffling
+     */
+    private static final byte[] UNSHUFFLED = createDeck();
+
+    /**
+     * Ordinals of the cards, the remaining cards are below the cursor
+     */
+    private final byte[] cards;
+
+    /**
+     * Number of cards that have yet to be drawn, the top of the deck is just below it
+     */
+    private int cursor;
+
+    /**
+     * Source of the shuffles
+     */
+    private final SplittableRandom random;
+
+    /**
+     * XOR of the Zobrist keys of the remaining cards at their positions
+     */
+    private long fingerprint;
 
     /**
      * Creates an instance of Deck
      */
 
-    public DeckImplementation(){ cards = createDeck(); }
+    public DeckImplementation(){ this(new SplittableRandom()); }
+
+    /**
+     * Creates an instance of Deck whose shuffles are determined by a seed
+     *
+     * @param seed seed of the shuffles
+     */
+
+    public DeckImplementation(long seed){ this(new SplittableRandom(seed)); }
+
+    /**
+     * Creates an instance of Deck
+     *
+     * @param random source of the shuffles
+     */
+
+    public DeckImplementation(SplittableRandom random){
+        this.random = random;
+        cards = new byte[UNSHUFFLED.length];
+        reset();
+    }
 
     /**
      * Resets the {@linkplain model.Deck deck} to its starting state. Restores any
@@ -33,7 +87,15 @@ public class DeckImplementation implements Deck {
      */
 
     @Override
-    public void reset() { cards = createDeck(); }
+    public void reset() {
+        System.arraycopy(UNSHUFFLED, 0, cards, 0, cards.length);
+        shuffle();
+        cursor = cards.length;
+        fingerprint = 0;
+        for (int i = 0; i < cursor; i++) {
+            fingerprint ^= key(i, cards[i]);
+        }
+    }
 
     /**
      * Draws the next {@linkplain Card card} from the "top" of the deck.
@@ -44,79 +106,100 @@ public class DeckImplementation implements Deck {
 
     @Override
     public Card drawACard() {
-        if (cards.empty()){
+        if (cursor == 0){
             return Card.NONE;
         }
-        return cards.pop();
+        cursor--;
+        fingerprint ^= key(cursor, cards[cursor]);
+        return CARDS[cards[cursor]];
     }
 
     /**
-     * Returns the number of {@link Card cards} that have yet to be drawn.
+     * Draws the next {@linkplain Card cards} from the "top" of the deck.
      *
-     * @return The number of {@link Card cards} that have yet to be drawn.
+     * @param n The number of cards to draw.
+     * @param into The array the cards are stored in, from index 0.
+     * @return The number of cards drawn before the deck was empty.
      */
 
     @Override
-    public int numberOfCardsRemaining() { return cards.size(); }
+    public int drawCards(int n, Card[] into) {
+        int drawn = Math.min(n, cursor);
+        for (int i = 0; i < drawn; i++) {
+            cursor--;
+            fingerprint ^= key(cursor, cards[cursor]);
+            into[i] = CARDS[cards[cursor]];
+        }
+        Arrays.fill(into, drawn, n, Card.NONE);
+        return drawn;
+    }
 
     /**
-     * Creates and returns a stack containing Cards
+     * Returns the number of {@link Card cards} that have yet to be drawn.
      *
-     * @return default stack used for the game
+     * @return The number of {@link Card cards} that have yet to be drawn.
      */
 
-    private Stack<Card> createDeck(){
-
-        Card[] deck = new Card [180];
+    @Override
+    public int numberOfCardsRemaining() { return cursor; }
 
-        Arrays.fill(deck, 0, 20, Card.WILD);
-        Arrays.fill(deck, 20, 40, Card.BLACK);
-        Arrays.fill(deck, 40, 60, Card.BLUE);
-        Arrays.fill(deck, 60, 80, Card.GREEN);
-        Arrays.fill(deck, 80, 100, Card.ORANGE);
-        Arrays.fill(deck, 100, 120, Card.PINK);
-        Arrays.fill(deck, 120, 140, Card.RED);
-        Arrays.fill(deck, 140, 160, Card.WHITE);
-        Arrays.fill(deck, 160, 180, Card.YELLOW);
+    /**
+     * Returns a 64 bit fingerprint of the remaining cards and their order, decks with
+     * different remaining cards share a fingerprint with probability about 2^-64
+     *
+     * @return fingerprint of the remaining cards
+     */
 
+    public long getFingerprint() { return fingerprint; }
 
-        Stack <Card> shuffledDeck = shuffle(deck);
+    /**
+     * @param position position of a card in the deck, 0 at the bottom
+     * @param ordinal ordinal of the card
+     * @return Zobrist key of the card at the position
+     */
 
-        return shuffledDeck;
+    private static long key(int position, byte ordinal) {
+        long z = (position * (long) CARDS.length + ordinal + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
     }
 
     /**
-     * Shuffles the deck of cards using Fisher-Yates Shuffle
+     * Creates the ordinals of the cards of the deck, 20 of each playable card
      *
-     * @param deck deck of cards to shuffle
-     * @return stack of cards
+     * @return default deck used for the game
      */
 
-    private Stack<Card> shuffle(Card [] deck){
-
-        int currentIndex = deck.length;
-
-        Stack<Card> shuffledDeck = new Stack<>();
-
-        while(currentIndex > 0){
-            int i = (int)(Math.floor(Math.random() * currentIndex--));
-            Card c = deck[currentIndex];
-            deck[currentIndex] = deck[i];
-            deck[i] = c;
+    private static byte[] createDeck(){
+        Card[] playable = {Card.WILD, Card.BLACK, Card.BLUE, Card.GREEN, Card.ORANGE,
+                Card.PINK, Card.RED, Card.WHITE, Card.YELLOW};
+        byte[] deck = new byte[playable.length * COPIES];
+        for (int i = 0; i < playable.length; i++) {
+            Arrays.fill(deck, i * COPIES, (i + 1) * COPIES, (byte) playable[i].ordinal());
         }
+        return deck;
+    }
 
-        for(Card c : deck){
-            shuffledDeck.push(c);
-        }
+    /**
+     * Shuffles the deck of cards using Fisher-Yates Shuffle
+     */
 
-        return shuffledDeck;
+    private void shuffle(){
+        for (int currentIndex = cards.length - 1; currentIndex > 0; currentIndex--) {
+            int i = random.nextInt(currentIndex + 1);
+            byte c = cards[currentIndex];
+            cards[currentIndex] = cards[i];
+            cards[i] = c;
+        }
     }
 
     /**
-     * Equals method for testing purposes
+     * Equals method, compares the remaining cards by their fingerprints without
+     * drawing them
      *
      * @param o object to compare
-     * @return true if equal
+     * @return true if both decks have the same cards left in the same order
      */
 
     @Override
@@ -126,14 +209,13 @@ public class DeckImplementation implements Deck {
         }
 
         DeckImplementation d = (DeckImplementation) o;
-
-        while(cards.size() > 0){
-            Card c = cards.pop();
-            Card c1 = d.cards.pop();
-            if(!c.equals(c1)){
-                return false;
-            }
-        }
-        return true;
+        return cursor == d.cursor && fingerprint == d.fingerprint;
     }
-}
\ No newline at end of file
+
+    /**
+     * @return hash of the cards left, consistent with equals
+     */
+
+    @Override
+    public int hashCode(){ return (int) (fingerprint ^ (fingerprint >>> 32)); }
+}
@@ -0,0 +1,93 @@
+package student;
+
+/**
+ * Representation of a Disjoint-Set (Union-Find) Structure over the elements 0 to size - 1
+ * Answers whether two elements are connected in near constant time
+ *
+ * @author Shannon Quinn
+ * @author Brennan Reed
+ */
+
+public class DisjointSet {
+
+    /**
+     * parent index of each element, roots are their own parent
+     */
+    private final int[] parent;
+
+    /**
+     * upper bound on the height of each root's tree
+     */
+    private final byte[] rank;
+
+    /**
+     * creates instance of class with every element in its own singleton set
+     *
+     * @param size number of elements
+     */
+
+    public DisjointSet(int size) {
+        parent = new int[size];
+        rank = new byte[size];
+        for (int i = 0; i < size; i++) {
+            parent[i] = i;
+        }
+    }
+
+    /**
+     * @return number of elements
+     */
+
+    public int size() { return parent.length; }
+
+    /**
+     * Merges the sets containing both elements
+     *
+     * @param element1 element to be connected
+     * @param element2 element to be connected
+     * @return root of the merged set
+     */
+
+    public int union(int element1, int element2) {
+        int root1 = find(element1);
+        int root2 = find(element2);
+        if (root1 == root2){
+            return root1;
+        }
+        if (rank[root1] < rank[root2]){
+            parent[root1] = root2;
+            return root2;
+        }
+        if (rank[root1] == rank[root2]){
+            rank[root1]++;
+        }
+        parent[root2] = root1;
+        return root1;
+    }
+
+    /**
+     * Determines whether two elements belong to the same set
+     *
+     * @param element1 first element
+     * @param element2 second element
+     * @return true if a path exists between the elements
+     *         false if no path exists
+     */
+
+    public boolean connected(int element1, int element2) { return find(element1) == find(element2); }
+
+    /**
+     * Finds the root of the set containing an element, halving the path on the way
+     *
+     * @param element an element
+     * @return the root of the set, the same for every element of the set
+     */
+
+    public int find(int element) {
+        while (parent[element] != element){
+            parent[element] = parent[parent[element]];
+            element = parent[element];
+        }
+        return element;
+    }
+}
@@ -0,0 +1,127 @@
+package student;
+
+import model.*;
+
+import java.util.*;
+
+/**
+ * Keeps track of whether a RailroadBarons game is over as the game is played
+ * Counts the players that can still play, updating the count when a route is claimed or
+ * a player changes, and reads the number of unclaimed routes from the map's index, so the
+ * game never has to look at every route or player to decide whether it is over
+ *
+ * @author Shannon Quinn
+ * @author Brennan Reed
+ */
+
+public class GameOverTracker implements PlayerObserver, RailroadMapObserver {
+
+    /**
+     * map the game is being played on
+     */
+    private RailroadMapImplementation map;
+
+    /**
+     * whether each player can still play
+     */
+    private final Map<Player, Boolean> continuing;
+
+    /**
+     * number of players that can still play
+     */
+    private int continuingCount;
+
+    /**
+     * length of the shortest unclaimed route in the map
+     */
+    private int shortestUnclaimed;
+
+    /**
+     * creates instance of class
+     *
+     * @param players players of the game, observed for as long as the tracker is used
+     */
+
+    public GameOverTracker(Collection<Player> players) {
+        continuing = new HashMap<>();
+        for (Player player: players) {
+            continuing.put(player, false);
+            player.addPlayerObserver(this);
+        }
+    }
+
+    /**
+     * Starts tracking a new game, once every player has been reset
+     *
+     * @param map map the game is being played on
+     */
+
+    public void startGame(RailroadMapImplementation map) {
+        if (this.map != null){
+            this.map.removeObserver(this);
+        }
+        this.map = map;
+        map.addObserver(this);
+        shortestUnclaimed = map.getLengthOfShortestUnclaimedRoute();
+        updateAll();
+    }
+
+    /**
+     * @return true if every route has been claimed, or no player can still play
+     */
+
+    public boolean isGameOver() { return map.countUnclaimedRoutes() == 0 || continuingCount == 0; }
+
+    /**
+     * Updates whether a player can still play after it has changed
+     *
+     * @param player the player that changed
+     */
+
+    @Override
+    public void playerChanged(Player player) {
+        if (map != null){
+            update(player);
+        }
+    }
+
+    /**
+     * Updates whether every player can still play after a route has been claimed
+     *
+     * @param map the map the route belongs to
+     * @param route the route that has been claimed
+     */
+
+    @Override
+    public void routeClaimed(RailroadMap map, Route route) {
+        int shortest = this.map.getLengthOfShortestUnclaimedRoute();
+        if (shortest != shortestUnclaimed){
+            shortestUnclaimed = shortest;
+            updateAll();
+        }
+    }
+
+    /**
+     * Updates whether every player can still play
+     */
+
+    private void updateAll() {
+        for (Player player: continuing.keySet()) {
+            update(player);
+        }
+    }
+
+    /**
+     * Updates whether a player can still play
+     *
+     * @param player a player of the game
+     */
+
+    private void update(Player player) {
+        boolean canContinue = player.canContinuePlaying(shortestUnclaimed);
+        boolean previous = Boolean.TRUE.equals(continuing.put(player, canContinue));
+        if (previous != canContinue){
+            continuingCount += canContinue ? 1 : -1;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package student;
+
+import model.*;
+
+import java.util.List;
+
+/**
+ * A route of a {@link MapTemplate} as seen by one game
+ * Everything but the owner is read from the template's route, the owner is kept by the
+ * game's {@link RailroadMapImplementation}
+ *
+ * @author Shannon Quinn
+ * @author Brennan Reed
+ */
+
+public class GameRoute implements Route {
+
+    /**
+     * The route of the template
+     */
+    private final Route route;
+
+    /**
+     * Index of the route in the template
+     */
+    private final int id;
+
+    /**
+     * The map of the game the route belongs to
+     */
+    private final RailroadMapImplementation map;
+
+    /**
+     * Tracks of this route, created when first requested
+     */
+    private List<Track> tracks;
+
+    /**
+     * Creates an instance of route
+     *
+     * @param route The route of the template
+     * @param id Index of the route in the template
+     * @param map The map of the game the route belongs to
+     */
+
+    public GameRoute(Route route, int id, RailroadMapImplementation map) {
+        this.route = route;
+        this.id = id;
+        this.map = map;
+    }
+
+    /**
+     * @return Index of the route in the template
+     */
+
+    public int getId() { return id; }
+
+    /**
+     * @return The {@link Baron} that has claimed this route in the game.
+     */
+
+    @Override
+    public Baron getBaron() { return map.getOwner(id); }
+
+    /**
+     * @return The {@link Station} at the beginning of this route.
+     */
+
+    @Override
+    public Station getOrigin() { return route.getOrigin(); }
+
+    /**
+     * @return The {@link Station} at the end of this route.
+     */
+
+    @Override
+    public Station getDestination() { return route.getDestination(); }
+
+    /**
+     * @return The {@link Orientation} of this route.
+     */
+
+    @Override
+    public Orientation getOrientation() { return route.getOrientation(); }
+
+    /**
+     * The tracks that make up this route. Each is created the first time it is
+     * requested, so games that never look at the tracks do not create them.
+     *
+     * @return The {@link List} of {@link Track Tracks} that make up this route.
+     */
+
+    @Override
+    public List<Track> getTracks() {
+        if (tracks == null){
+            tracks = new TrackList(this);
+        }
+        return tracks;
+    }
+
+    /**
+     * Returns the track of this route at a location
+     *
+     * @param row The row of the track.
+     * @param col The column of the track.
+     * @return The {@link Track} at the location.
+     */
+
+    public Track getTrack(int row, int col) { return getTracks().get(TrackList.offsetOf(route, row, col)); }
+
+    /**
+     * @return The number of {@link Track Tracks} comprising this route.
+     */
+
+    @Override
+    public int getLength() { return route.getLength(); }
+
+    /**
+     * @return The number of points that this route is worth.
+     */
+
+    @Override
+    public int getPointValue() { return route.getPointValue(); }
+
+    /**
+     * @param space The {@link Space} that may be in this route.
+     * @return True if the {@link Space Space's} coordinates are a part of this route,
+     * and false otherwise.
+     */
+
+    @Override
+    public boolean includesCoordinate(Space space) { return route.includesCoordinate(space); }
+
+    /**
+     * Attempts to claim the route in this game on behalf of the specified
+     * {@linkplain Baron}. Only unclaimed routes may be claimed.
+     *
+     * @param claimant The {@link Baron} attempting to claim the route.
+     * @return True if the route was successfully claimed. False otherwise.
+     */
+
+    @Override
+    public boolean claim(Baron claimant) { return map.claimOwner(id, claimant); }
+}
@@ -48,6 +48,16 @@ public class LonelyRailroadBarons implements RailroadBarons{
      */
     private Collection<Route> routes;
 
+    /**
+     * Keeps track of whether the game is over
+     */
+    private GameOverTracker gameOver;
+
+    /**
+     * Cards drawn at the start of a turn, reused every turn
+     */
+    private final Card[] drawn;
+
     /**
      * Default, parameter-less constructor
      */
@@ -60,6 +70,8 @@ public class LonelyRailroadBarons implements RailroadBarons{
         players.add(new ComputerPlayer(Baron.BLUE));
         players.add(new ComputerPlayer(Baron.GREEN));
         players.add(new ComputerPlayer(Baron.YELLOW));
+        gameOver = new GameOverTracker(players);
+        drawn = new Card[2];
     }
 
     /**
@@ -92,6 +104,18 @@ public class LonelyRailroadBarons implements RailroadBarons{
     @Override
     public Collection<Player> getPlayers() { return players; }
 
+    /**
+     * Returns the {@linkplain PlayerImplementation player} with the longest continuous
+     * railroad, for games played with the longest railroad scoring variant.
+     *
+     * @return The {@link PlayerImplementation} whose longest continuous railroad is
+     * longer than that of every other player, or null if no route has been claimed
+     * or the longest railroads are tied.
+     */
+
+    @Override
+    public Player getLongestRailroadPlayer() { return LongestRailroad.findLongestPlayer(players); }
+
     /**
      * get the railroadMap used for play
      * if the game is not progress this could be null
@@ -132,14 +156,13 @@ public class LonelyRailroadBarons implements RailroadBarons{
         deck = new DeckImplementation();
         routes = map.getRoutes();
         RailroadMapImplementation castedMap = (RailroadMapImplementation) map;
-
+        castedMap.getRouteNetwork().reset();
 
         for(int i=0; i<4; i++){
             PlayerImplementation p= (PlayerImplementation)players.get(i);
             p.reset(createHand());
             p.addBoardSize(map.getRows(), map.getCols());
-            p.addStations(castedMap.getStations());
-            p.addBoundaryStations(castedMap.getBoundaryStations());
+            p.addRouteNetwork(castedMap.getRouteNetwork());
 
             if(i>0){
                 ComputerPlayer cp = (ComputerPlayer) p;
@@ -147,8 +170,9 @@ public class LonelyRailroadBarons implements RailroadBarons{
             }
         }
 
+        gameOver.startGame(castedMap);
         currentPlayer = players.get(currentPlayerIndex);
-        currentPlayer.startTurn(new PairImplementation(deck.drawACard(), deck.drawACard()));
+        currentPlayer.startTurn(drawPair());
         for (RailroadBaronsObserver observer : observers) {
             observer.turnStarted(this, currentPlayer);
         }
@@ -207,7 +231,7 @@ public class LonelyRailroadBarons implements RailroadBarons{
         for (RailroadBaronsObserver observer: observers) {
             observer.turnStarted(this, currentPlayer);
         }
-        currentPlayer.startTurn(new PairImplementation(deck.drawACard(), deck.drawACard()));
+        currentPlayer.startTurn(drawPair());
 
         if(currentPlayer instanceof ComputerPlayer){
             endTurn();
@@ -227,22 +251,7 @@ public class LonelyRailroadBarons implements RailroadBarons{
      */
 
     @Override
-    public boolean gameIsOver() {
-        boolean playerContinue = true;
-        boolean routeContinue = true;
-
-        for (Player player: players){
-            if(player.canContinuePlaying(map.getLengthOfShortestUnclaimedRoute())){
-                playerContinue = false;
-            }
-        }
-        for (Route route: routes){
-            if (route.getBaron().equals(Baron.UNCLAIMED)){
-                routeContinue = false;
-            }
-        }
-        return playerContinue || routeContinue;
-    }
+    public boolean gameIsOver() { return gameOver.isGameOver(); }
 
     /**
      * Attempts to claim the {@linkplain RouteImplementation route} at the specified
@@ -281,6 +290,17 @@ public class LonelyRailroadBarons implements RailroadBarons{
         return currentPlayer.canClaimRoute(route);
     }
 
+    /**
+     * Draws the two cards dealt to the current player at the start of a turn
+     *
+     * @return pair of drawn cards
+     */
+
+    private Pair drawPair(){
+        deck.drawCards(drawn.length, drawn);
+        return new PairImplementation(drawn[0], drawn[1]);
+    }
+
     /**
      * Creates and returns a hand containing 4 cards drawn from the deck
      *
@@ -289,10 +309,7 @@ public class LonelyRailroadBarons implements RailroadBarons{
 
     private Card[] createHand(){
         Card[] hand = new Card[4];
-
-        for (int i = 0; i < 4; i++){
-            hand[i] = deck.drawACard();
-        }
+        deck.drawCards(hand.length, hand);
         return hand;
     }
 }
\ No newline at end of file
@@ -0,0 +1,477 @@
+package student;
+
+import model.Player;
+
+import java.util.*;
+
+/**
+ * Finds the longest continuous railroad (the heaviest simple path) through the edges
+ * of a station graph added to it, where each edge is weighted by the number of tracks
+ * in its route. Edges of the graph that were never added are ignored, so one graph of
+ * every route can be shared by all players.
+ * Results are kept per connected component, so adding a route only recomputes the
+ * component the route belongs to
+ *
+ * @author Shannon Quinn
+ * @author Brennan Reed
+ */
+
+public class LongestRailroad {
+
+    /**
+     * largest number of core vertices searched with the memoized bitmask search, whose
+     * table has an entry for every endpoint and set of visited core vertices
+     */
+    private static final int MASK_LIMIT = 16;
+
+    /**
+     * graph containing the claimed routes
+     */
+    private final CompactGraph graph;
+
+    /**
+     * number of tracks in each edge, indexed by edge id
+     */
+    private int[] weights;
+
+    /**
+     * bitset of the edges added to the railroad, indexed by edge id
+     */
+    private long[] added;
+
+    /**
+     * length of the longest continuous railroad found so far
+     */
+    private int longest;
+
+    /**
+     * scratch: id of each vertex within the component being solved, valid iff marked
+     */
+    private final int[] localId, mark;
+
+    /**
+     * scratch: current component search
+     */
+    private int epoch;
+
+    /**
+     * scratch: vertices of the component being solved, in the order they were found
+     */
+    private final int[] vertices;
+
+    /**
+     * scratch: every edge of the vertex being collected, then the count of added edges
+     * followed by the added edges
+     */
+    private int[] graphEdges, incident;
+
+    /**
+     * adjacency of the component's core vertices, in local ids, grown as needed
+     */
+    private int[] adjStart, adjTarget, adjWeight;
+
+    /**
+     * longest path hanging off each core vertex into its pruned trees
+     */
+    private int[] hang;
+
+    /**
+     * whether each local vertex was pruned from the core
+     */
+    private boolean[] pruned;
+
+    /**
+     * scratch: remaining degree of each local vertex and the queue of leaves while pruning,
+     * then the bit of each core vertex in the memo masks
+     */
+    private int[] degree, leaves, bit;
+
+    /**
+     * scratch: core vertices on the path of the bounded search
+     */
+    private boolean[] visited;
+
+    /**
+     * longest path found so far by the bounded search
+     */
+    private int bestFound;
+
+    /**
+     * memoized best extension plus one for each set of visited core vertices and
+     * endpoint, 0 where not yet known
+     */
+    private int[] memo;
+
+    /**
+     * creates instance of class
+     *
+     * @param graph graph containing the routes, with all of its vertices present
+     */
+
+    public LongestRailroad(CompactGraph graph) {
+        this.graph = graph;
+        int vertexCount = graph.getVertexCount();
+        weights = new int[8];
+        added = new long[1];
+        graphEdges = new int[8];
+        incident = new int[9];
+        localId = new int[vertexCount];
+        mark = new int[vertexCount];
+        vertices = new int[vertexCount];
+        adjTarget = new int[8];
+        adjWeight = new int[8];
+        growLocal(8);
+        longest = 0;
+    }
+
+    /**
+     * Finds the player whose longest continuous railroad is longer than that of every
+     * other player
+     *
+     * @param players players of a game
+     * @return the player, or null if no route has been claimed or the longest railroads are tied
+     */
+
+    public static Player findLongestPlayer(Collection<Player> players) {
+        Player longestPlayer = null;
+        int longest = 0;
+        for (Player player: players) {
+            int length = player.getLongestRailroad();
+            if (length > longest){
+                longest = length;
+                longestPlayer = player;
+            } else if (length == longest){
+                longestPlayer = null;
+            }
+        }
+        return longestPlayer;
+    }
+
+    /**
+     * @return the number of tracks in the longest continuous railroad
+     */
+
+    public int getLongest() { return longest; }
+
+    /**
+     * Updates the longest railroad after an edge of the graph was added to it. Only the
+     * component containing the edge is searched again, since every other component is
+     * unchanged and adding an edge can never shorten a path.
+     *
+     * @param edge id of the edge that was added
+     * @param weight number of tracks in the edge's route
+     */
+
+    public void edgeAdded(int edge, int weight) {
+        if (edge >= weights.length){
+            weights = Arrays.copyOf(weights, Math.max(edge + 1, weights.length * 2));
+        }
+        weights[edge] = weight;
+        if (edge / 64 >= added.length){
+            added = Arrays.copyOf(added, Math.max(edge / 64 + 1, added.length * 2));
+        }
+        added[edge / 64] |= 1L << edge;
+        longest = Math.max(longest, solve(graph.getEdgeSource(edge)));
+    }
+
+    /**
+     * Finds the longest simple path in the component containing a vertex
+     *
+     * @param start any vertex of the component
+     * @return the number of tracks in the longest path
+     */
+
+    private int solve(int start) {
+        int count = collect(start);
+        int best = prune(count);
+
+        int core = 0;
+        for (int v = 0; v < count; v++) {
+            if (!pruned[v]){
+                core++;
+            }
+        }
+        if (core == 0){
+            return best;
+        }
+        if (core <= MASK_LIMIT){
+            int next = 0;
+            for (int v = 0; v < count; v++) {
+                bit[v] = pruned[v] ? -1 : next++;
+            }
+            int size = (1 << core) * core;
+            if (memo == null || memo.length < size){
+                memo = new int[size];
+            } else {
+                Arrays.fill(memo, 0, size, 0);
+            }
+            for (int v = 0; v < count; v++) {
+                if (pruned[v]){
+                    continue;
+                }
+                for (int i = adjStart[v]; i < adjStart[v + 1]; i++) {
+                    int neighbor = adjTarget[i];
+                    if (!pruned[neighbor]){
+                        best = Math.max(best, hang[v] + adjWeight[i] + extendMasked(neighbor,
+                                (1 << bit[v]) | (1 << bit[neighbor]), core));
+                    }
+                }
+            }
+        } else {
+            int remaining = 0;
+            for (int v = 0; v < count; v++) {
+                if (!pruned[v]){
+                    remaining += coreWeight(v, pruned);
+                }
+            }
+            remaining /= 2;
+            int maxHang = 0;
+            for (int v = 0; v < count; v++) {
+                maxHang = Math.max(maxHang, hang[v]);
+            }
+            Arrays.fill(visited, 0, count, false);
+            bestFound = best;
+            for (int v = 0; v < count; v++) {
+                if (pruned[v]){
+                    continue;
+                }
+                visited[v] = true;
+                int usable = remaining - coreWeight(v, visited);
+                for (int i = adjStart[v]; i < adjStart[v + 1]; i++) {
+                    int neighbor = adjTarget[i];
+                    if (!pruned[neighbor]){
+                        visited[neighbor] = true;
+                        extendBounded(neighbor, hang[v] + adjWeight[i], usable, maxHang);
+                        visited[neighbor] = false;
+                    }
+                }
+                visited[v] = false;
+            }
+            best = bestFound;
+        }
+        return best;
+    }
+
+    /**
+     * Gathers the vertices and edges of a component into local adjacency arrays
+     *
+     * @param start any vertex of the component
+     * @return the number of vertices in the component
+     */
+
+    private int collect(int start) {
+        epoch++;
+        mark[start] = epoch;
+        localId[start] = 0;
+        vertices[0] = start;
+        int count = 1;
+        int edgeEntries = 0;
+        for (int i = 0; i < count; i++) {
+            int vertex = vertices[i];
+            addedEdges(vertex);
+            edgeEntries += incident[0];
+            for (int k = 1; k <= incident[0]; k++) {
+                int neighbor = opposite(incident[k], vertex);
+                if (mark[neighbor] != epoch){
+                    mark[neighbor] = epoch;
+                    localId[neighbor] = count;
+                    vertices[count++] = neighbor;
+                }
+            }
+        }
+
+        if (count + 1 > adjStart.length){
+            growLocal(Math.max(count + 1, adjStart.length * 2));
+        }
+        if (edgeEntries > adjTarget.length){
+            int capacity = Math.max(edgeEntries, adjTarget.length * 2);
+            adjTarget = new int[capacity];
+            adjWeight = new int[capacity];
+        }
+        int position = 0;
+        for (int i = 0; i < count; i++) {
+            int vertex = vertices[i];
+            addedEdges(vertex);
+            adjStart[i] = position;
+            for (int k = 1; k <= incident[0]; k++) {
+                int edge = incident[k];
+                adjTarget[position] = localId[opposite(edge, vertex)];
+                adjWeight[position++] = weights[edge];
+            }
+        }
+        adjStart[count] = position;
+        Arrays.fill(hang, 0, count, 0);
+        Arrays.fill(pruned, 0, count, false);
+        return count;
+    }
+
+    /**
+     * Replaces the scratch arrays indexed by local vertex id with larger ones
+     *
+     * @param capacity number of local vertices the arrays must hold, plus one
+     */
+
+    private void growLocal(int capacity) {
+        adjStart = new int[capacity];
+        hang = new int[capacity];
+        pruned = new boolean[capacity];
+        degree = new int[capacity];
+        leaves = new int[capacity];
+        bit = new int[capacity];
+        visited = new boolean[capacity];
+    }
+
+    /**
+     * Finds the edges of a vertex that were added to the railroad, leaving their number
+     * in incident[0] followed by the edges
+     *
+     * @param vertex id of the vertex
+     */
+
+    private void addedEdges(int vertex) {
+        int vertexDegree = graph.degree(vertex);
+        if (vertexDegree + 1 > incident.length){
+            incident = new int[vertexDegree + 1];
+        }
+        if (vertexDegree > graphEdges.length){
+            graphEdges = new int[vertexDegree];
+        }
+        graph.incidentEdges(vertex, graphEdges);
+        int count = 0;
+        for (int k = 0; k < vertexDegree; k++) {
+            int edge = graphEdges[k];
+            if (edge / 64 < added.length && (added[edge / 64] & (1L << edge)) != 0){
+                incident[++count] = edge;
+            }
+        }
+        incident[0] = count;
+    }
+
+    /**
+     * @param edge id of an edge
+     * @param vertex one endpoint of the edge
+     * @return the other endpoint of the edge
+     */
+
+    private int opposite(int edge, int vertex) {
+        int source = graph.getEdgeSource(edge);
+        return source == vertex ? graph.getEdgeTarget(edge) : source;
+    }
+
+    /**
+     * Degree based pruning: repeatedly removes vertices of degree one, remembering the
+     * longest path hanging off each remaining vertex. A simple path can only use a
+     * hanging tree at one of its endpoints, so the core search adds those lengths at
+     * the ends instead of walking the trees.
+     *
+     * @param count number of vertices in the component
+     * @return the longest path found entirely within the pruned trees
+     */
+
+    private int prune(int count) {
+        int best = 0;
+        int head = 0, tail = 0;
+        for (int v = 0; v < count; v++) {
+            degree[v] = adjStart[v + 1] - adjStart[v];
+            if (degree[v] == 1){
+                leaves[tail++] = v;
+            }
+        }
+        while (head < tail) {
+            int leaf = leaves[head++];
+            if (degree[leaf] != 1){
+                continue; // the last vertex of a tree
+            }
+            pruned[leaf] = true;
+            degree[leaf] = 0;
+            for (int i = adjStart[leaf]; i < adjStart[leaf + 1]; i++) {
+                int neighbor = adjTarget[i];
+                if (!pruned[neighbor]){
+                    int branch = hang[leaf] + adjWeight[i];
+                    best = Math.max(best, hang[neighbor] + branch);
+                    hang[neighbor] = Math.max(hang[neighbor], branch);
+                    if (--degree[neighbor] == 1){
+                        leaves[tail++] = neighbor;
+                    } else if (degree[neighbor] == 0){
+                        pruned[neighbor] = true;
+                    }
+                    break;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Bitmask search over the core, memoized on the endpoint and the visited vertices
+     *
+     * @param vertex current endpoint of the path
+     * @param mask core vertices already on the path, as bits
+     * @param core number of core vertices
+     * @return the longest extension of the path past the vertex, including the
+     *         tree hanging off wherever the path ends
+     */
+
+    private int extendMasked(int vertex, int mask, int core) {
+        int key = mask * core + bit[vertex];
+        if (memo[key] != 0){
+            return memo[key] - 1;
+        }
+        int best = hang[vertex];
+        for (int i = adjStart[vertex]; i < adjStart[vertex + 1]; i++) {
+            int neighbor = adjTarget[i];
+            if (bit[neighbor] != -1 && (mask & (1 << bit[neighbor])) == 0){
+                best = Math.max(best, adjWeight[i]
+                        + extendMasked(neighbor, mask | (1 << bit[neighbor]), core));
+            }
+        }
+        memo[key] = best + 1;
+        return best;
+    }
+
+    /**
+     * Depth first search over large cores, abandoning paths that can no longer beat
+     * the best path found so far. The path only grows from one end, so once a vertex is
+     * left behind none of its other edges can be used, and they are dropped from the
+     * weight still available to the path.
+     *
+     * @param vertex current endpoint of the path
+     * @param length length of the path so far
+     * @param remaining total weight of the core edges between vertices not yet on the path,
+     *                  or from the endpoint to them
+     * @param maxHang longest tree hanging off any core vertex
+     */
+
+    private void extendBounded(int vertex, int length, int remaining, int maxHang) {
+        bestFound = Math.max(bestFound, length + hang[vertex]);
+        if (length + remaining + maxHang <= bestFound){
+            return;
+        }
+        int usable = remaining - coreWeight(vertex, visited);
+        for (int i = adjStart[vertex]; i < adjStart[vertex + 1]; i++) {
+            int neighbor = adjTarget[i];
+            if (!pruned[neighbor] && !visited[neighbor]){
+                visited[neighbor] = true;
+                extendBounded(neighbor, length + adjWeight[i], usable, maxHang);
+                visited[neighbor] = false;
+            }
+        }
+    }
+
+    /**
+     * @param vertex a core vertex
+     * @param excluded vertices whose edges are not counted
+     * @return total weight of the vertex's edges to core vertices that are not excluded
+     */
+
+    private int coreWeight(int vertex, boolean[] excluded) {
+        int weight = 0;
+        for (int i = adjStart[vertex]; i < adjStart[vertex + 1]; i++) {
+            int neighbor = adjTarget[i];
+            if (!pruned[neighbor] && !excluded[neighbor]){
+                weight += adjWeight[i];
+            }
+        }
+        return weight;
+    }
+}
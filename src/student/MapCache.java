@@ -0,0 +1,209 @@
+package student;
+
+import model.RailroadBaronsException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+
+/**
+ * Cache of parsed map templates, keyed by the canonical path of the map file
+ * A cached template is used while the file keeps the modification time and size it had
+ * when it was parsed. Templates are evicted least recently used first once their
+ * estimated size exceeds the byte budget. Every load returns a new map sharing the
+ * cached template, so loading a cached map only creates the game's owners.
+ *
+ * @author Shannon Quinn
+ * @author Brennan Reed
+ */
+
+public class MapCache {
+
+    /**
+     * Byte budget of the shared cache
+     */
+    public static final long DEFAULT_BUDGET = 64L << 20;
+
+    /**
+     * Cache shared by every MapMakerImplementation
+     */
+    private static final MapCache SHARED = new MapCache(DEFAULT_BUDGET);
+
+    /**
+     * Cached templates by canonical path, least recently used first
+     */
+    private final LinkedHashMap<Path, Entry> entries;
+
+    /**
+     * Estimated size of the cached templates at which templates are evicted
+     */
+    private long budget;
+
+    /**
+     * Estimated size of the cached templates
+     */
+    private long size;
+
+    /**
+     * Number of loads served from the cache and number that parsed the file
+     */
+    private long hits, misses;
+
+    /**
+     * creates instance of class
+     *
+     * @param budget estimated number of bytes of templates to keep
+     */
+
+    public MapCache(long budget) {
+        this.budget = budget;
+        entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * @return the cache shared by every MapMakerImplementation
+     */
+
+    public static MapCache getShared() { return SHARED; }
+
+    /**
+     * Loads a map for a new game, parsing the file only if its template is not cached
+     *
+     * @param path path of a map file, in the text or binary format
+     * @return a map for a new game
+     * @throws RailroadBaronsException If the file could not be read or parsed
+     */
+
+    public RailroadMapImplementation load(Path path) throws RailroadBaronsException {
+        Path canonical;
+        BasicFileAttributes attributes;
+        try {
+            canonical = path.toRealPath();
+            attributes = Files.readAttributes(canonical, BasicFileAttributes.class);
+        }
+        catch (IOException e){
+            throw new RailroadBaronsException("Failed to load map: " + e.getMessage());
+        }
+        long modified = attributes.lastModifiedTime().toMillis();
+        synchronized (this) {
+            Entry entry = entries.get(canonical);
+            if (entry != null && entry.modified == modified && entry.fileSize == attributes.size()){
+                hits++;
+                return new RailroadMapImplementation(entry.template);
+            }
+            misses++;
+        }
+
+        // parse without holding the lock, so other maps can be loaded meanwhile
+        RailroadMapImplementation map = (RailroadMapImplementation) MapMakerImplementation.readFile(canonical);
+        Entry entry = new Entry(map.getTemplate(), modified, attributes.size());
+        synchronized (this) {
+            Entry previous = entries.put(canonical, entry);
+            if (previous != null){
+                size -= previous.template.estimateSize();
+            }
+            size += entry.template.estimateSize();
+            evict();
+        }
+        return map;
+    }
+
+    /**
+     * Sets the estimated number of bytes of templates to keep, evicting templates
+     * if they no longer fit
+     *
+     * @param budget estimated number of bytes
+     */
+
+    public synchronized void setBudget(long budget) {
+        this.budget = budget;
+        evict();
+    }
+
+    /**
+     * @return estimated number of bytes of templates to keep
+     */
+
+    public synchronized long getBudget() { return budget; }
+
+    /**
+     * @return estimated number of bytes of the cached templates
+     */
+
+    public synchronized long getSize() { return size; }
+
+    /**
+     * @return number of cached templates
+     */
+
+    public synchronized int getCount() { return entries.size(); }
+
+    /**
+     * @return number of loads served from the cache
+     */
+
+    public synchronized long getHits() { return hits; }
+
+    /**
+     * @return number of loads that parsed the file
+     */
+
+    public synchronized long getMisses() { return misses; }
+
+    /**
+     * Removes every cached template and resets the counters
+     */
+
+    public synchronized void clear() {
+        entries.clear();
+        size = 0;
+        hits = 0;
+        misses = 0;
+    }
+
+    /**
+     * Evicts the least recently used templates until the rest fit the budget, always
+     * keeping the most recently used one
+     */
+
+    private void evict() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (size > budget && entries.size() > 1) {
+            size -= iterator.next().template.estimateSize();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * A cached template and the state of the file it was parsed from
+     */
+
+    private static class Entry {
+
+        /**
+         * the parsed template
+         */
+        private final MapTemplate template;
+
+        /**
+         * modification time in milliseconds and size of the file when it was parsed
+         */
+        private final long modified, fileSize;
+
+        /**
+         * creates instance of class
+         *
+         * @param template the parsed template
+         * @param modified modification time of the file in milliseconds
+         * @param fileSize size of the file
+         */
+
+        Entry(MapTemplate template, long modified, long fileSize) {
+            this.template = template;
+            this.modified = modified;
+            this.fileSize = fileSize;
+        }
+    }
+}
@@ -0,0 +1,465 @@
+package student;
+
+import model.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Parses the text RailroadBarons Map format directly from bytes
+ * Numbers and barons are read in place without creating a String per line, and large
+ * route sections are split into chunks parsed in parallel on the common fork-join pool.
+ * Every line is checked by a {@link MapValidator} as it is read, and all problems are
+ * reported together with the number of the line they were found on.
+ *
+ * @author Shannon Quinn
+ * @author Brennan Reed
+ */
+
+public class MapFileParser {
+
+    /**
+     * Route sections longer than this many bytes are parsed in parallel
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 20;
+
+    /**
+     * Approximate number of bytes of routes parsed by a single fork-join task
+     */
+    private static final int CHUNK_SIZE = 1 << 18;
+
+    /**
+     * Line separating the stations from the routes
+     */
+    private static final byte[] ROUTES_MARKER = "##ROUTES##".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * Every Baron, and the bytes of its name
+     */
+    private static final Baron[] BARONS = Baron.values();
+    private static final byte[][] BARON_NAMES = new byte[BARONS.length][];
+
+    static {
+        for (int b = 0; b < BARONS.length; b++) {
+            BARON_NAMES[b] = BARONS[b].name().getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    /**
+     * Bytes of the map being parsed
+     */
+    private final ByteBuffer data;
+
+    /**
+     * Index after the last byte of the map
+     */
+    private final int limit;
+
+    /**
+     * Stations in the order they were read
+     */
+    private final List<Station> stations;
+
+    /**
+     * Checks the stations and routes, and finds stations by number
+     */
+    private final MapValidator validator;
+
+    /**
+     * creates instance of class
+     *
+     * @param data bytes of the map, from its position to its limit
+     */
+
+    public MapFileParser(ByteBuffer data) {
+        this.data = data;
+        this.limit = data.limit();
+        stations = new ArrayList<>();
+        validator = new MapValidator();
+    }
+
+    /**
+     * Parses the map
+     *
+     * @return the map
+     * @throws RailroadBaronsException If the data is not a valid map, the message lists
+     *                                 every problem with its line
+     */
+
+    public RailroadMap parse() throws RailroadBaronsException {
+        int position = data.position();
+        int line = 1;
+        int routesStart = -1;
+        while (position < limit) {
+            int end = lineEnd(position);
+            if (isMarker(position, end)){
+                routesStart = next(end);
+                line++;
+                break;
+            }
+            if (contentEnd(position, end) > skipSpaces(position, end)){
+                try {
+                    int[] cursor = {position};
+                    int number = parseInt(cursor, end, "station number");
+                    Station station = parseStation(number, cursor[0], end);
+                    validator.addStation(number, station.getRow(), station.getCol(), line);
+                    stations.add(station);
+                } catch (MalformedLine e) {
+                    validator.addProblem(line, e.getMessage());
+                }
+            }
+            position = next(end);
+            line++;
+        }
+        if (stations.isEmpty()){
+            validator.addProblem(line, "the map has no stations");
+            validator.check();
+        }
+
+        Set<Route> routes = new LinkedHashSet<>();
+        if (routesStart != -1 && routesStart < limit){
+            List<RouteChunk> chunks = new ArrayList<>();
+            int chunkSize = limit - routesStart > PARALLEL_THRESHOLD ? CHUNK_SIZE : limit - routesStart;
+            for (int start = routesStart; start < limit; ) {
+                int end = start + chunkSize >= limit ? limit : next(lineEnd(start + chunkSize));
+                chunks.add(new RouteChunk(start, end));
+                start = end;
+            }
+            if (chunks.size() > 1){
+                ForkJoinTask.invokeAll(chunks);
+            } else {
+                chunks.get(0).invoke();
+            }
+            for (RouteChunk chunk: chunks) {
+                ChunkResult result = chunk.join();
+                for (int i = 0; i < result.count; i++) {
+                    validator.addRoute(result.origins[i], result.destinations[i], line + result.routeLines[i]);
+                }
+                for (int i = 0; i < result.errorLines.size(); i++) {
+                    validator.addProblem(line + result.errorLines.get(i), result.errorMessages.get(i));
+                }
+                routes.addAll(result.routes);
+                line += result.lines;
+            }
+        }
+        validator.check();
+        return new RailroadMapImplementation(routes, stations);
+    }
+
+    /**
+     * Parses the rest of a station line after its number: row, column and name
+     *
+     * @param number number of the station
+     * @param position index after the station number
+     * @param end index of the line separator
+     * @return the station
+     */
+
+    private Station parseStation(int number, int position, int end) {
+        int[] cursor = {position};
+        int row = parseInt(cursor, end, "station row");
+        int col = parseInt(cursor, end, "station column");
+        int nameStart = skipSpaces(cursor[0], end);
+        int nameEnd = contentEnd(nameStart, end);
+        if (nameStart == nameEnd){
+            throw new MalformedLine("missing station name");
+        }
+        byte[] name = new byte[nameEnd - nameStart];
+        for (int i = 0; i < name.length; i++) {
+            name[i] = data.get(nameStart + i);
+        }
+        return new StationImplementation(number, row, col, new String(name, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parses a route line: origin number, destination number and owner. The route is
+     * created only if both stations exist and the route runs east or south, anything
+     * else is reported when the validator checks the route.
+     *
+     * @param position index of the first byte of the line
+     * @param end index of the line separator
+     * @param result routes of the chunk the line belongs to
+     */
+
+    private void parseRoute(int position, int end, ChunkResult result) {
+        int[] cursor = {position};
+        int originNumber = parseInt(cursor, end, "origin station");
+        int destinationNumber = parseInt(cursor, end, "destination station");
+        int start = skipSpaces(cursor[0], end);
+        int stop = start;
+        while (stop < end && !isSpace(data.get(stop))) {
+            stop++;
+        }
+        Baron owner = baron(start, stop);
+        result.add(originNumber, destinationNumber);
+        int from = validator.indexOf(originNumber);
+        int to = validator.indexOf(destinationNumber);
+        if (from != -1 && to != -1){
+            Station origin = stations.get(from);
+            Station destination = stations.get(to);
+            if (MapValidator.runsEastOrSouth(origin.getRow(), origin.getCol(),
+                    destination.getRow(), destination.getCol())){
+                result.routes.add(new RouteImplementation(origin, destination, owner));
+            }
+        }
+    }
+
+    /**
+     * Reads a non-negative or negative decimal number following any spaces
+     *
+     * @param cursor index to read from, advanced past the number
+     * @param end index of the line separator
+     * @param field what the number is, for error messages
+     * @return the number
+     */
+
+    private int parseInt(int[] cursor, int end, String field) {
+        int position = skipSpaces(cursor[0], end);
+        boolean negative = position < end && data.get(position) == '-';
+        if (negative){
+            position++;
+        }
+        int start = position;
+        long value = 0;
+        while (position < end && data.get(position) >= '0' && data.get(position) <= '9') {
+            value = value * 10 + (data.get(position) - '0');
+            if (value > Integer.MAX_VALUE){
+                throw new MalformedLine(field + " is too large");
+            }
+            position++;
+        }
+        if (position == start || (position < end && !isSpace(data.get(position)))){
+            throw new MalformedLine("expected a number for the " + field);
+        }
+        cursor[0] = position;
+        return (int) (negative ? -value : value);
+    }
+
+    /**
+     * @param start index of the first byte of the name
+     * @param stop index after the last byte of the name
+     * @return the Baron with the name
+     */
+
+    private Baron baron(int start, int stop) {
+        for (int b = 0; b < BARONS.length; b++) {
+            if (matches(start, stop, BARON_NAMES[b])){
+                return BARONS[b];
+            }
+        }
+        byte[] name = new byte[stop - start];
+        for (int i = 0; i < name.length; i++) {
+            name[i] = data.get(start + i);
+        }
+        throw new MalformedLine(start == stop ? "missing route owner"
+                : "unknown baron " + new String(name, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param start index of the first byte
+     * @param stop index after the last byte
+     * @param expected expected bytes
+     * @return true if the bytes are the expected bytes
+     */
+
+    private boolean matches(int start, int stop, byte[] expected) {
+        if (stop - start != expected.length){
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (data.get(start + i) != expected[i]){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param position index of the first byte of a line
+     * @param end index of the line separator
+     * @return true if the line is the routes marker
+     */
+
+    private boolean isMarker(int position, int end) { return matches(position, contentEnd(position, end), ROUTES_MARKER); }
+
+    /**
+     * @param position index within a line
+     * @return index of the separator ending the line, or the limit
+     */
+
+    private int lineEnd(int position) {
+        while (position < limit && data.get(position) != '\n') {
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * @param end index of a line separator
+     * @return index of the first byte of the next line
+     */
+
+    private int next(int end) { return Math.min(end + 1, limit); }
+
+    /**
+     * @param position index within a line
+     * @param end index of the line separator
+     * @return index of the first byte that is not a space, or the separator
+     */
+
+    private int skipSpaces(int position, int end) {
+        while (position < end && isSpace(data.get(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * @param position index of the first byte of the line's content
+     * @param end index of the line separator
+     * @return index after the last byte of the line that is not a space
+     */
+
+    private int contentEnd(int position, int end) {
+        while (end > position && isSpace(data.get(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * @param value a byte
+     * @return true if the byte is a space, tab or carriage return
+     */
+
+    private static boolean isSpace(byte value) { return value == ' ' || value == '\t' || value == '\r'; }
+
+    /**
+     * Problem found while parsing a line, the line number is added by whoever
+     * knows where the line is in the map
+     */
+
+    private static class MalformedLine extends RuntimeException {
+
+        /**
+         * version of the serialized form
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * creates instance of class
+         *
+         * @param message description of the problem
+         */
+
+        MalformedLine(String message) { super(message); }
+    }
+
+    /**
+     * Routes parsed from a chunk of the route section
+     */
+
+    private static class ChunkResult {
+
+        /**
+         * routes of the chunk that can be created, in order
+         */
+        private final List<Route> routes = new ArrayList<>();
+
+        /**
+         * origin and destination numbers and line within the chunk of every route read
+         */
+        private int[] origins = new int[64], destinations = new int[64], routeLines = new int[64];
+
+        /**
+         * number of routes read
+         */
+        private int count;
+
+        /**
+         * number of lines in the chunk
+         */
+        private int lines;
+
+        /**
+         * lines within the chunk that could not be read, and their problems
+         */
+        private final List<Integer> errorLines = new ArrayList<>();
+        private final List<String> errorMessages = new ArrayList<>();
+
+        /**
+         * Records a route read on the current line
+         *
+         * @param origin number of the origin station
+         * @param destination number of the destination station
+         */
+
+        private void add(int origin, int destination) {
+            if (count == origins.length){
+                origins = Arrays.copyOf(origins, count * 2);
+                destinations = Arrays.copyOf(destinations, count * 2);
+                routeLines = Arrays.copyOf(routeLines, count * 2);
+            }
+            origins[count] = origin;
+            destinations[count] = destination;
+            routeLines[count] = lines;
+            count++;
+        }
+    }
+
+    /**
+     * Parses the routes of a chunk of whole lines
+     */
+
+    private class RouteChunk extends RecursiveTask<ChunkResult> {
+
+        /**
+         * version of the serialized form
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * index of the first byte of the chunk and the index after the last
+         */
+        private final int start, end;
+
+        /**
+         * creates instance of class
+         *
+         * @param start index of the first byte of the chunk
+         * @param end index after the last byte of the chunk
+         */
+
+        RouteChunk(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * Parses every line of the chunk, recording the lines that cannot be read
+         *
+         * @return routes of the chunk
+         */
+
+        @Override
+        protected ChunkResult compute() {
+            ChunkResult result = new ChunkResult();
+            for (int position = start; position < end; result.lines++) {
+                int lineEnd = Math.min(lineEnd(position), end);
+                if (contentEnd(position, lineEnd) > skipSpaces(position, lineEnd)){
+                    try {
+                        parseRoute(position, lineEnd, result);
+                    } catch (MalformedLine e) {
+                        result.errorLines.add(result.lines);
+                        result.errorMessages.add(e.getMessage());
+                    }
+                }
+                position = next(lineEnd);
+            }
+            return result;
+        }
+    }
+}
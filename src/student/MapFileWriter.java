@@ -0,0 +1,206 @@
+package student;
+
+import model.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Writes the text RailroadBarons Map format through a reusable byte buffer
+ * Stations are numbered once, in the order they first appear in the routes, and route
+ * endpoints are looked up by identity, so writing is linear in the size of the map
+ *
+ * @author Shannon Quinn
+ * @author Brennan Reed
+ */
+
+public class MapFileWriter {
+
+    /**
+     * Line separator, the same one PrintStream uses
+     */
+    private static final byte[] NEW_LINE = System.lineSeparator().getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * Line separating the stations from the routes
+     */
+    private static final byte[] ROUTES_MARKER = "##ROUTES##".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * Bytes of the name of every Baron, indexed by ordinal
+     */
+    private static final byte[][] BARON_NAMES = new byte[Baron.values().length][];
+
+    static {
+        for (Baron baron: Baron.values()) {
+            BARON_NAMES[baron.ordinal()] = baron.toString().getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Bytes waiting to be written
+     */
+    private final byte[] buffer;
+
+    /**
+     * Number of bytes waiting in the buffer
+     */
+    private int count;
+
+    /**
+     * Stream the map is being written to
+     */
+    private OutputStream out;
+
+    /**
+     * creates instance of class
+     *
+     * @param bufferSize number of bytes buffered between writes to the stream
+     */
+
+    public MapFileWriter(int bufferSize) { buffer = new byte[Math.max(bufferSize, 64)]; }
+
+    /**
+     * Writes a map, leaving the stream open
+     *
+     * @param map the map
+     * @param out stream the map is written to
+     * @throws IOException If the stream could not be written
+     */
+
+    public void write(RailroadMap map, OutputStream out) throws IOException {
+        this.out = out;
+        count = 0;
+        try {
+            Collection<Route> routes = map.getRoutes();
+            Map<Station, Integer> numbers = new IdentityHashMap<>();
+            List<Station> stations = new ArrayList<>();
+            for (Route route: routes) {
+                number(route.getOrigin(), numbers, stations);
+                number(route.getDestination(), numbers, stations);
+            }
+
+            for (int i = 0; i < stations.size(); i++) {
+                Station station = stations.get(i);
+                writeInt(i);
+                writeByte(' ');
+                writeInt(station.getRow());
+                writeByte(' ');
+                writeInt(station.getCol());
+                writeByte(' ');
+                writeBytes(station.getName().getBytes(StandardCharsets.UTF_8));
+                writeBytes(NEW_LINE);
+            }
+            writeBytes(ROUTES_MARKER);
+            writeBytes(NEW_LINE);
+            for (Route route: routes) {
+                writeInt(numbers.get(route.getOrigin()));
+                writeByte(' ');
+                writeInt(numbers.get(route.getDestination()));
+                writeByte(' ');
+                writeBytes(BARON_NAMES[route.getBaron().ordinal()]);
+                writeBytes(NEW_LINE);
+            }
+            flush();
+            out.flush();
+        } finally {
+            this.out = null;
+        }
+    }
+
+    /**
+     * Gives a station the next number if it has none yet
+     *
+     * @param station a station
+     * @param numbers number of each station seen so far
+     * @param stations stations in the order of their numbers
+     */
+
+    private static void number(Station station, Map<Station, Integer> numbers, List<Station> stations) {
+        if (!numbers.containsKey(station)){
+            numbers.put(station, stations.size());
+            stations.add(station);
+        }
+    }
+
+    /**
+     * @param value number to be written in decimal
+     * @throws IOException If the stream could not be written
+     */
+
+    private void writeInt(int value) throws IOException {
+        if (count + 11 > buffer.length){
+            flush();
+        }
+        if (value < 0){
+            if (value == Integer.MIN_VALUE){
+                writeBytes(Integer.toString(value).getBytes(StandardCharsets.US_ASCII));
+                return;
+            }
+            buffer[count++] = '-';
+            value = -value;
+        }
+        int end = count + digits(value);
+        for (int position = end - 1; position >= count; position--) {
+            buffer[position] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        count = end;
+    }
+
+    /**
+     * @param value a non-negative number
+     * @return number of decimal digits in the number
+     */
+
+    private static int digits(int value) {
+        int digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
+    }
+
+    /**
+     * @param value byte to be written
+     * @throws IOException If the stream could not be written
+     */
+
+    private void writeByte(char value) throws IOException {
+        if (count == buffer.length){
+            flush();
+        }
+        buffer[count++] = (byte) value;
+    }
+
+    /**
+     * @param bytes bytes to be written
+     * @throws IOException If the stream could not be written
+     */
+
+    private void writeBytes(byte[] bytes) throws IOException {
+        if (bytes.length > buffer.length - count){
+            flush();
+            if (bytes.length > buffer.length){
+                out.write(bytes);
+                return;
+            }
+        }
+        System.arraycopy(bytes, 0, buffer, count, bytes.length);
+        count += bytes.length;
+    }
+
+    /**
+     * Writes the buffered bytes to the stream
+     *
+     * @throws IOException If the stream could not be written
+     */
+
+    private void flush() throws IOException {
+        out.write(buffer, 0, count);
+        count = 0;
+    }
+}
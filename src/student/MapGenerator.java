@@ -0,0 +1,347 @@
+package student;
+
+import model.*;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * Generates RailroadBarons Maps of any size from a seed
+ * Stations sit on a lattice whose row and column spacing is drawn from the route length
+ * weights, and routes only join neighbouring lattice stations, so routes never cross or
+ * overlap. Whether a station or route exists is a pure function of the seed and its
+ * position, so the same seed always gives the same map, and maps are written as they are
+ * generated, keeping only the lattice spacing in memory.
+ *
+ * @author Shannon Quinn
+ * @author Brennan Reed
+ */
+
+public class MapGenerator {
+
+    /**
+     * Salts separating the random decisions about stations, routes and spacing
+     */
+    private static final long STATION = 1, EAST = 2, SOUTH = 3, ROW_GAP = 4, COL_GAP = 5;
+
+    /**
+     * Number of lattice rows and columns
+     */
+    private final int latticeRows, latticeCols;
+
+    /**
+     * Seed every decision is derived from
+     */
+    private final long seed;
+
+    /**
+     * Probability that a lattice point away from the boundary has a station
+     */
+    private double density;
+
+    /**
+     * Probability that two neighbouring stations are joined by a route
+     */
+    private double routeDensity;
+
+    /**
+     * Relative weight of each route length, index 0 is length 1
+     */
+    private int[] lengthWeights;
+
+    /**
+     * Number of stations on each side of the map, 0 to use the density on the sides too
+     */
+    private int boundaryStations;
+
+    /**
+     * creates instance of class
+     *
+     * @param latticeRows number of lattice rows
+     * @param latticeCols number of lattice columns
+     * @param seed seed every decision is derived from
+     */
+
+    public MapGenerator(int latticeRows, int latticeCols, long seed) {
+        if (latticeRows < 1 || latticeCols < 1 || (long) latticeRows * latticeCols > Integer.MAX_VALUE){
+            throw new IllegalArgumentException("The lattice must have between 1 and "
+                    + Integer.MAX_VALUE + " points.");
+        }
+        this.latticeRows = latticeRows;
+        this.latticeCols = latticeCols;
+        this.seed = seed;
+        density = 0.75;
+        routeDensity = 0.75;
+        lengthWeights = new int[]{1, 1, 1, 1, 1, 1};
+        boundaryStations = 0;
+    }
+
+    /**
+     * @param density probability that a lattice point away from the boundary has a station
+     */
+
+    public void setDensity(double density) { this.density = density; }
+
+    /**
+     * @param routeDensity probability that two neighbouring stations are joined by a route
+     */
+
+    public void setRouteDensity(double routeDensity) { this.routeDensity = routeDensity; }
+
+    /**
+     * Sets the distribution of route lengths
+     *
+     * @param weights relative weight of each route length, the first is for length 1
+     */
+
+    public void setRouteLengthWeights(int... weights) {
+        int total = 0;
+        for (int weight: weights) {
+            if (weight < 0){
+                throw new IllegalArgumentException("Route length weights cannot be negative.");
+            }
+            total += weight;
+        }
+        if (total == 0){
+            throw new IllegalArgumentException("At least one route length needs a weight.");
+        }
+        lengthWeights = weights.clone();
+    }
+
+    /**
+     * Sets the number of stations spaced evenly along each side of the map
+     *
+     * @param boundaryStations stations per side, 0 to use the density on the sides too
+     */
+
+    public void setBoundaryStations(int boundaryStations) { this.boundaryStations = boundaryStations; }
+
+    /**
+     * Writes the map in the text format as it is generated
+     *
+     * @param out stream the map is written to, left open
+     * @throws IOException If the stream could not be written
+     */
+
+    public void write(OutputStream out) throws IOException {
+        int[] rows = spacing(latticeRows, ROW_GAP);
+        int[] cols = spacing(latticeCols, COL_GAP);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 1 << 16);
+        for (int i = 0; i < latticeRows; i++) {
+            for (int j = 0; j < latticeCols; j++) {
+                if (hasStation(i, j)){
+                    int number = i * latticeCols + j;
+                    writer.write(number + " " + rows[i] + " " + cols[j] + " " + name(number) + "\n");
+                }
+            }
+        }
+        writer.write("##ROUTES##\n");
+        for (int i = 0; i < latticeRows; i++) {
+            for (int j = 0; j < latticeCols; j++) {
+                int number = i * latticeCols + j;
+                if (hasRoute(i, j, EAST)){
+                    writer.write(number + " " + (number + 1) + " " + Baron.UNCLAIMED + "\n");
+                }
+                if (hasRoute(i, j, SOUTH)){
+                    writer.write(number + " " + (number + latticeCols) + " " + Baron.UNCLAIMED + "\n");
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    /**
+     * Generates the map in memory
+     *
+     * @return the map
+     */
+
+    public RailroadMapImplementation generate() {
+        int[] rows = spacing(latticeRows, ROW_GAP);
+        int[] cols = spacing(latticeCols, COL_GAP);
+        List<Station> stations = new ArrayList<>();
+        Set<Route> routes = new LinkedHashSet<>();
+        Station[] above = new Station[latticeCols];
+        Station[] current = new Station[latticeCols];
+        for (int i = 0; i < latticeRows; i++) {
+            for (int j = 0; j < latticeCols; j++) {
+                current[j] = null;
+                if (hasStation(i, j)){
+                    int number = i * latticeCols + j;
+                    current[j] = new StationImplementation(number, rows[i], cols[j], name(number));
+                    stations.add(current[j]);
+                }
+            }
+            if (i > 0){
+                addRoutes(i - 1, above, current, routes);
+            }
+            Station[] swap = above;
+            above = current;
+            current = swap;
+        }
+        addRoutes(latticeRows - 1, above, null, routes);
+        if (stations.isEmpty()){
+            throw new IllegalStateException("The generated map has no stations, raise the density.");
+        }
+        return new RailroadMapImplementation(routes, stations);
+    }
+
+    /**
+     * Adds the routes of a lattice row, east then south from each station, the order
+     * they are written in
+     *
+     * @param i lattice row
+     * @param row stations of the lattice row
+     * @param below stations of the next lattice row, null for the last row
+     * @param routes routes of the map
+     */
+
+    private void addRoutes(int i, Station[] row, Station[] below, Set<Route> routes) {
+        for (int j = 0; j < latticeCols; j++) {
+            if (hasRoute(i, j, EAST)){
+                routes.add(new RouteImplementation(row[j], row[j + 1], Baron.UNCLAIMED));
+            }
+            if (below != null && hasRoute(i, j, SOUTH)){
+                routes.add(new RouteImplementation(row[j], below[j], Baron.UNCLAIMED));
+            }
+        }
+    }
+
+    /**
+     * @param i lattice row
+     * @param j lattice column
+     * @return true if the lattice point has a station
+     */
+
+    private boolean hasStation(int i, int j) {
+        if (boundaryStations > 0){
+            boolean horizontalSide = i == 0 || i == latticeRows - 1;
+            boolean verticalSide = j == 0 || j == latticeCols - 1;
+            if (horizontalSide || verticalSide){
+                return (horizontalSide && isSpaced(j, latticeCols)) || (verticalSide && isSpaced(i, latticeRows));
+            }
+        }
+        return unit(STATION, (long) i * latticeCols + j) < density;
+    }
+
+    /**
+     * @param i lattice row of the origin
+     * @param j lattice column of the origin
+     * @param direction EAST or SOUTH
+     * @return true if the station at the lattice point has a route in the direction
+     */
+
+    private boolean hasRoute(int i, int j, long direction) {
+        int toRow = direction == SOUTH ? i + 1 : i;
+        int toCol = direction == EAST ? j + 1 : j;
+        return toRow < latticeRows && toCol < latticeCols && hasStation(i, j) && hasStation(toRow, toCol)
+                && unit(direction, (long) i * latticeCols + j) < routeDensity;
+    }
+
+    /**
+     * @param k position along a side
+     * @param n number of lattice points along the side
+     * @return true if the position is one of the boundary stations spaced evenly along the side
+     */
+
+    private boolean isSpaced(int k, int n) {
+        if (boundaryStations >= n){
+            return true;
+        }
+        if (boundaryStations == 1){
+            return k == 0;
+        }
+        long steps = boundaryStations - 1;
+        long m = ((long) k * steps + n - 2) / (n - 1);
+        return m * (n - 1) / steps == k;
+    }
+
+    /**
+     * Places the lattice lines, each gap one more than a route length drawn from the weights
+     *
+     * @param count number of lattice lines
+     * @param salt ROW_GAP or COL_GAP
+     * @return coordinate of each lattice line
+     */
+
+    private int[] spacing(int count, long salt) {
+        int total = 0;
+        for (int weight: lengthWeights) {
+            total += weight;
+        }
+        int[] positions = new int[count];
+        long position = 0;
+        for (int k = 0; k < count; k++) {
+            if (position > Integer.MAX_VALUE){
+                throw new IllegalArgumentException("The map is too large for int coordinates.");
+            }
+            positions[k] = (int) position;
+            long pick = (long) (unit(salt, k) * total);
+            int length = 0;
+            while (pick >= lengthWeights[length]) {
+                pick -= lengthWeights[length];
+                length++;
+            }
+            position += length + 2;
+        }
+        return positions;
+    }
+
+    /**
+     * @param salt kind of decision
+     * @param index what the decision is about
+     * @return number in [0, 1) determined by the seed, salt and index
+     */
+
+    private double unit(long salt, long index) {
+        long z = seed + salt * 0x9E3779B97F4A7C15L + index * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z ^= z >>> 31;
+        return (z >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * @param number station number
+     * @return name of the station
+     */
+
+    private static String name(int number) { return "Station" + number; }
+
+    /**
+     * Writes a generated map file
+     *
+     * @param args lattice rows, lattice columns, seed and output file, optionally followed by
+     *             the station density, route density and boundary stations per side
+     * @throws IOException If the file could not be written
+     */
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 4){
+            System.err.println("Usage: java student.MapGenerator <rows> <cols> <seed> <file.rbmap>"
+                    + " [density] [routeDensity] [boundaryStations]");
+            return;
+        }
+        MapGenerator generator = new MapGenerator(Integer.parseInt(args[0]), Integer.parseInt(args[1]),
+                Long.parseLong(args[2]));
+        if (args.length > 4){
+            generator.setDensity(Double.parseDouble(args[4]));
+        }
+        if (args.length > 5){
+            generator.setRouteDensity(Double.parseDouble(args[5]));
+        }
+        if (args.length > 6){
+            generator.setBoundaryStations(Integer.parseInt(args[6]));
+        }
+        try (OutputStream out = Files.newOutputStream(Paths.get(args[3]))) {
+            generator.write(out);
+        }
+    }
+}
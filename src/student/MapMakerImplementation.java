@@ -5,12 +5,17 @@ import model.*;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
 
 /**
  * Implementation of the MapMaker interface
- * Can load and save RailroadBarons Maps
+ * Can load and save RailroadBarons Maps, every call uses its own buffers so one
+ * instance may load and save maps on several threads at once
  *
  * @author Shannon Quinn
  * @author Brennan Reed
@@ -18,70 +23,121 @@ import java.util.*;
 
 public class MapMakerImplementation implements MapMaker {
 
+    /**
+     * Initial size of the buffers a map is read into and written from
+     */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Cache of the maps loaded by path, null if maps are parsed on every load
+     */
+    private MapCache mapCache;
+
     /**
      * Default parameter-less constructor
      */
 
     public MapMakerImplementation(){
-
+        mapCache = MapCache.getShared();
     }
 
     /**
      * Loads a {@linkplain RailroadMapImplementation map} using the data in the given
-     * {@linkplain InputStream input stream}.
+     * {@linkplain InputStream input stream}, in the text format or in the
+     * {@linkplain BinaryMapFormat binary format}.
      *
      * @param in The {@link InputStream} used to read the {@link RailroadMapImplementation
      *           map} data.
      * @return The {@link RailroadMapImplementation map} read from the given
      * {@link InputStream}.
      * @throws RailroadBaronsException If there are any problems reading the
-     *                                 data from the {@link InputStream}.
+     *                                 data from the {@link InputStream}, the
+     *                                 message gives the line of the problem.
      */
 
     @Override
     public RailroadMap readMap(InputStream in) throws RailroadBaronsException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int length = 0;
         try {
-            Scanner scanner = new Scanner(in);
-            Set<Route> routes = new HashSet<>();
-            Map<Integer, Station> stations = new HashMap<>();
-            ArrayList<Station> stationList = new ArrayList<>();
-            Station station, origin, destination;
-            RouteImplementation route;
-            Baron owner;
-            String line, name, ownerName;
-            String[] splitLine;
-            int row, col, stationNumber;
-
-            while (scanner.hasNextLine()) {
-                line = scanner.nextLine();
-                if (line.equals("##ROUTES##")){
-                    break;
+            for (int read; (read = in.read(buffer, length, buffer.length - length)) != -1; ) {
+                length += read;
+                if (length == buffer.length){
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
                 }
-                splitLine = line.split("\\s+", 4);
-                stationNumber = Integer.parseInt(splitLine[0]);
-                row = Integer.parseInt(splitLine[1]);
-                col = Integer.parseInt(splitLine[2]);
-                name = splitLine[3];
-                station = new StationImplementation(stationNumber, row, col, name);
-                stations.put(stationNumber, station);
-                stationList.add(station);
             }
+            in.close();
+        }
+        catch (IOException e){
+            throw new RailroadBaronsException("There were problems reading the data from the input stream.");
+        }
+        ByteBuffer data = ByteBuffer.wrap(buffer, 0, length);
+        if (BinaryMapFormat.isBinary(data)){
+            return BinaryMapFormat.read(data);
+        }
+        return new MapFileParser(data).parse();
+    }
 
-            while (scanner.hasNextLine()) {
-                line = scanner.nextLine();
-                splitLine = line.split("\\s+");
-                origin = stations.get(Integer.parseInt(splitLine[0]));
-                destination = stations.get(Integer.parseInt(splitLine[1]));
-                ownerName = splitLine[2];
-                owner = Baron.valueOf(ownerName);
-                route = new RouteImplementation(origin, destination, owner);
-                routes.add(route);
+    /**
+     * Loads a {@linkplain RailroadMapImplementation map} from a file, mapping the file
+     * into memory instead of reading it through a stream. The file may be in the text
+     * format or in the {@linkplain BinaryMapFormat binary format}.
+     *
+     * @param path The path of the map file.
+     * @return The {@link RailroadMapImplementation map} read from the file.
+     * @throws RailroadBaronsException If there are any problems reading the
+     *                                 file, the message gives the line of the problem.
+     */
+
+    public RailroadMap readMap(Path path) throws RailroadBaronsException { return readFile(path); }
+
+    /**
+     * Loads a {@linkplain RailroadMapImplementation map} from a map file for a new game.
+     * Files are only parsed the first time they are loaded, or after they change;
+     * later loads share the parsed layout through the {@linkplain MapCache map cache}.
+     *
+     * @param path The path to the map file, in the text or binary format.
+     * @return The {@link RailroadMapImplementation map} read from the file.
+     * @throws RailroadBaronsException If there are any problems reading the file.
+     */
+
+    @Override
+    public RailroadMap readMap(String path) throws RailroadBaronsException {
+        if (mapCache == null){
+            return readFile(Paths.get(path));
+        }
+        return mapCache.load(Paths.get(path));
+    }
+
+    /**
+     * Sets the cache used when maps are loaded by path
+     *
+     * @param mapCache the cache, or null to parse the file on every load
+     */
+
+    public void setMapCache(MapCache mapCache){ this.mapCache = mapCache; }
+
+    /**
+     * Loads a map file, mapping the file into memory
+     *
+     * @param path The path of the map file.
+     * @return The {@link RailroadMapImplementation map} read from the file.
+     * @throws RailroadBaronsException If there are any problems reading the file.
+     */
+
+    static RailroadMap readFile(Path path) throws RailroadBaronsException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE){
+                throw new RailroadBaronsException("The map file is too large: " + path);
+            }
+            ByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (BinaryMapFormat.isBinary(data)){
+                return BinaryMapFormat.read(data);
             }
-            scanner.close();
-            return new RailroadMapImplementation(routes, stationList);
+            return new MapFileParser(data).parse();
         }
-        catch (Exception e){
-            throw new RailroadBaronsException("There were problems reading the data from the input stream.");
+        catch (IOException e){
+            throw new RailroadBaronsException("There were problems reading the map file " + path + ".");
         }
     }
 
@@ -101,55 +157,12 @@ public class MapMakerImplementation implements MapMaker {
 
     @Override
     public void writeMap(RailroadMap map, OutputStream out) throws RailroadBaronsException {
-        PrintStream printStream = new PrintStream(out);
-        Collection<Route> routes = map.getRoutes();
-        Map<Integer, Station> stations = new HashMap<>();
-        Collection<Station> stationList  = new HashSet<>();
-        int row, col, stationNumber, originNumber, destinationNumber;
-        String name, line;
-        Station origin, destination, station;
-        stationNumber = 0;
-        for (Route route: routes) {
-            origin = route.getOrigin();
-            destination = route.getDestination();
-            if (!stationList.contains(origin)){
-                stationList.add(origin);
-                stations.put(stationNumber, origin);
-                stationNumber++;
-            }
-            if (!stationList.contains(destination)){
-                stationList.add(destination);
-                stations.put(stationNumber, destination);
-                stationNumber++;
-            }
+        try {
+            new MapFileWriter(BUFFER_SIZE).write(map, out);
+            out.close();
         }
-
-        for (int i = 0; i < stations.size(); i++){
-            station = stations.get(i);
-            name = station.getName();
-            row = station.getRow();
-            col = station.getCol();
-            line = i + " " + row + " " + col + " " + name;
-            printStream.println(line);
+        catch (IOException e){
+            throw new RailroadBaronsException("There were problems writing the data to the output stream.");
         }
-        printStream.println("##ROUTES##");
-        originNumber = 0;
-        destinationNumber = 0;
-        for (Route route: routes) {
-            origin = route.getOrigin();
-            destination = route.getDestination();
-            for (Integer key: stations.keySet()) {
-                if (stations.get(key).collocated(origin)){
-                    originNumber = key;
-                }
-                if (stations.get(key).collocated(destination)){
-                    destinationNumber = key;
-                }
-            }
-            printStream.println(originNumber + " " + destinationNumber + " " + route.getBaron());
-        }
-        printStream.close();
     }
-
-
 }
\ No newline at end of file
@@ -0,0 +1,407 @@
+package student;
+
+import model.*;
+
+import java.util.*;
+
+/**
+ * The layout of a RailroadBarons Map: its stations, routes, tracks and boundaries
+ * A template never changes once it has been created, so one template can be shared by
+ * any number of games, including games played on different threads. Each game keeps
+ * its own owner of every route in a {@link RailroadMapImplementation}.
+ *
+ * @author Shannon Quinn
+ * @author Brennan Reed
+ */
+
+public class MapTemplate {
+
+    /**
+     * Maps with more than this many locations per occupied location are stored sparsely
+     */
+    private static final int SPARSE_RATIO = 4;
+
+    /**
+     * Maps with at most this many locations are always stored densely
+     */
+    private static final int DENSE_LIMIT = 1 << 12;
+
+    /**
+     * Read only routes of the template, their owners are the owners every game starts with
+     */
+    private final List<Route> routeList;
+
+    /**
+     * Index of each route the template was created from in the list of routes
+     */
+    private final Map<Route, Integer> routeIndices;
+
+    /**
+     * List of all stations contained in the map
+     */
+    private final List<Station> stations;
+
+    /**
+     * Index of each station in the list of stations
+     */
+    private final Map<Station, Integer> stationIndices;
+
+    /**
+     * Routes containing each location, null when the map is stored sparsely
+     */
+    private final Route[][] tracks;
+
+    /**
+     * Station at each location, null when the map is stored sparsely
+     */
+    private final Space[][] spaces;
+
+    /**
+     * Stations and routes of sparse maps, null when the map is stored densely
+     */
+    private final SpaceIndex sparseSpaces;
+
+    /**
+     * Number of rows in the map
+     */
+    private final int rows;
+
+    /**
+     * Number of columns in the map
+     */
+    private final int cols;
+
+    /**
+     * Map containing all stations located on the boundary's of the RailroadBarons Map
+     */
+    private final Map<String, List<Station>> boundaryStations;
+
+    /**
+     * Baron ordinal of the owner of each route when the map was loaded
+     */
+    private final byte[] owners;
+
+    /**
+     * Graph and boundaries shared by the route network of every game
+     */
+    private final RouteNetwork.Topology topology;
+
+    /**
+     * Distances between all stations, computed when first requested
+     */
+    private volatile StationDistances distances;
+
+    /**
+     * Approximate number of bytes the template keeps on the heap
+     */
+    private final long estimatedSize;
+
+    /**
+     * Hash of the stations, routes and initial owners, 0 until first requested
+     */
+    private volatile long contentHash;
+
+    /**
+     * Creates the template of a map
+     *
+     * @param routes Set of all routes contained in the map
+     * @param stations List of all stations contained in the map
+     */
+
+    public MapTemplate(Collection<Route> routes, List<Station> stations){
+        this.stations = Collections.unmodifiableList(new ArrayList<>(stations));
+        rows = stations.stream().mapToInt(Station::getRow).max().getAsInt()+1;
+        cols = stations.stream().mapToInt(Station::getCol).max().getAsInt()+1;
+        int minRow = stations.stream().mapToInt(Station::getRow).min().getAsInt();
+        int minCol = stations.stream().mapToInt(Station::getCol).min().getAsInt();
+
+        long occupied = stations.size();
+        for (Route route: routes) {
+            occupied += route.getLength();
+        }
+        long locations = (long) rows * cols;
+        if (locations > DENSE_LIMIT && locations > SPARSE_RATIO * occupied){
+            sparseSpaces = new SpaceIndex((int) Math.min(occupied, Integer.MAX_VALUE / 2));
+            spaces = null;
+            tracks = null;
+        } else {
+            sparseSpaces = null;
+            spaces = new Space[rows][cols];
+            tracks = new Route[rows][cols];
+        }
+
+        List<Route> templateRoutes = new ArrayList<>(routes.size());
+        routeIndices = new HashMap<>();
+        owners = new byte[routes.size()];
+        for (Route loaded: routes) {
+            Route route = new TemplateRoute(loaded, templateRoutes.size());
+            templateRoutes.add(route);
+            owners[routeIndices.size()] = (byte) route.getBaron().ordinal();
+            routeIndices.put(loaded, routeIndices.size());
+            // only the route is stored, its tracks are created when they are requested
+            boolean horizontal = route.getOrientation() == Orientation.HORIZONTAL;
+            int row = route.getOrigin().getRow();
+            int col = route.getOrigin().getCol();
+            for (int offset = 0; offset < route.getLength(); offset++){
+                if (horizontal){
+                    col++;
+                } else {
+                    row++;
+                }
+                if (sparseSpaces != null){
+                    sparseSpaces.putRoute(row, col, route);
+                } else {
+                    tracks[row][col] = route;
+                }
+            }
+        }
+        routeList = Collections.unmodifiableList(templateRoutes);
+
+        Map<String, List<Station>> boundaries = new HashMap<>();
+        boundaries.put("North", new ArrayList<>());
+        boundaries.put("South", new ArrayList<>());
+        boundaries.put("East", new ArrayList<>());
+        boundaries.put("West", new ArrayList<>());
+        stationIndices = new HashMap<>();
+        for(Station station: this.stations){
+            int row = station.getRow();
+            int col = station.getCol();
+            if (sparseSpaces != null){
+                sparseSpaces.putSpace(row, col, station);
+            } else {
+                spaces[row][col] = station;
+            }
+            stationIndices.put(station, stationIndices.size());
+            if (row == minRow){
+                boundaries.get("North").add(station);
+            }
+            if (row == rows-1){
+                boundaries.get("South").add(station);
+            }
+            if (col == minCol){
+                boundaries.get("West").add(station);
+            }
+            if (col == cols-1){
+                boundaries.get("East").add(station);
+            }
+        }
+        for (Map.Entry<String, List<Station>> boundary: boundaries.entrySet()) {
+            boundary.setValue(Collections.unmodifiableList(boundary.getValue()));
+        }
+        boundaryStations = Collections.unmodifiableMap(boundaries);
+
+        topology = new RouteNetwork.Topology(stationIndices, routeList, boundaryStations);
+
+        // objects per station and route, plus either the two grids or the hash slots
+        long grid = sparseSpaces != null ? occupied * 48 : locations * 8;
+        estimatedSize = this.stations.size() * 96L + routeList.size() * 160L + grid;
+    }
+
+    /**
+     * @return Approximate number of bytes the template keeps on the heap, not counting
+     * the station distances
+     */
+
+    public long estimateSize() { return estimatedSize; }
+
+    /**
+     * @return The number of rows in the map.
+     */
+
+    public int getRows() { return rows; }
+
+    /**
+     * @return The number of columns in the map.
+     */
+
+    public int getCols() { return cols; }
+
+    /**
+     * Returns the space at a location, tracks belong to the routes of the template
+     *
+     * @param row The row of the space.
+     * @param col The column of the space.
+     * @return The space at the location, or null if there is none.
+     */
+
+    public Space getSpace(int row, int col) {
+        Route route = getRoute(row, col);
+        if (route != null){
+            return route.getTracks().get(TrackList.offsetOf(route, row, col));
+        }
+        return getStation(row, col);
+    }
+
+    /**
+     * Returns the station at a location
+     *
+     * @param row The row of the station.
+     * @param col The column of the station.
+     * @return The station at the location, or null if there is none.
+     */
+
+    public Space getStation(int row, int col) {
+        return sparseSpaces != null ? sparseSpaces.getSpace(row, col) : spaces[row][col];
+    }
+
+    /**
+     * Returns the route of the template with a track at a location
+     *
+     * @param row The row of a track in the route.
+     * @param col The column of a track in the route.
+     * @return The route, or null if there is no track at the location.
+     */
+
+    public Route getRoute(int row, int col) {
+        return sparseSpaces != null ? sparseSpaces.getRoute(row, col) : tracks[row][col];
+    }
+
+    /**
+     * Determines whether the spaces of this map are stored sparsely, which is the case
+     * when most locations of the map are empty
+     *
+     * @return true if only occupied locations are stored
+     */
+
+    public boolean isSparse() { return sparseSpaces != null; }
+
+    /**
+     * Returns the routes of the template, with the owners they were loaded with
+     * The routes are read only, games claim the routes of their own map
+     *
+     * @return unmodifiable list of routes
+     */
+
+    public List<Route> getRouteList() { return routeList; }
+
+    /**
+     * Returns all of the routes of the template, which are read only
+     *
+     * @return unmodifiable collection of routes
+     */
+
+    public Collection<Route> getRoutes() { return routeList; }
+
+    /**
+     * Returns the index of a route in the list of routes
+     *
+     * @param route a route of the template, one it was created from, or of a game played on it
+     * @return index of the route
+     */
+
+    public int getRouteIndex(Route route) {
+        if (route instanceof GameRoute){
+            return ((GameRoute) route).getId();
+        }
+        if (route instanceof TemplateRoute){
+            return ((TemplateRoute) route).getId();
+        }
+        return routeIndices.get(route);
+    }
+
+    /**
+     * Returns the owner a route was loaded with
+     *
+     * @param id index of the route
+     * @return ordinal of the owner's Baron
+     */
+
+    byte getOwner(int id) { return owners[id]; }
+
+    /**
+     * Returns a 64 bit FNV-1a hash of the stations, the routes and the owners they were
+     * loaded with, the same for every load of the same map in either file format
+     *
+     * @return hash of the content of the map, never 0
+     */
+
+    public long getContentHash() {
+        long hash = contentHash;
+        if (hash == 0){
+            hash = 0xCBF29CE484222325L;
+            hash = mix(hash, stations.size());
+            for (Station station: stations) {
+                hash = mix(hash, station.getRow());
+                hash = mix(hash, station.getCol());
+                String name = station.getName();
+                hash = mix(hash, name.length());
+                for (int i = 0; i < name.length(); i++) {
+                    hash = mix(hash, name.charAt(i));
+                }
+            }
+            hash = mix(hash, routeList.size());
+            for (int id = 0; id < routeList.size(); id++) {
+                hash = mix(hash, stationIndices.get(routeList.get(id).getOrigin()));
+                hash = mix(hash, stationIndices.get(routeList.get(id).getDestination()));
+                hash = mix(hash, owners[id]);
+            }
+            hash = hash == 0 ? 1 : hash;
+            contentHash = hash;
+        }
+        return hash;
+    }
+
+    /**
+     * @param hash hash so far
+     * @param value value added to the hash, byte by byte
+     * @return FNV-1a hash including the value
+     */
+
+    private static long mix(long hash, int value) {
+        for (int shift = 0; shift < 32; shift += 8) {
+            hash = (hash ^ ((value >>> shift) & 0xFF)) * 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    /**
+     * Returns List containing all stations located on the RailroadBarons Map
+     *
+     * @return unmodifiable list of stations
+     */
+
+    public List<Station> getStations() { return stations; }
+
+    /**
+     * Returns the index of a station in the list of stations
+     *
+     * @param station a station located on the RailroadBarons Map
+     * @return index of the station
+     */
+
+    public int getStationIndex(Station station) { return stationIndices.get(station); }
+
+    /**
+     * Returns Map containing all Boundary Stations located on the RailroadBarons Map
+     * The map and its lists are shared by every game and cannot be modified
+     *
+     * @return boundaryStations
+     */
+
+    public Map<String, List<Station>> getBoundaryStations() { return boundaryStations; }
+
+    /**
+     * Creates the route network of a new game played on the template
+     *
+     * @return network with no claimed routes
+     */
+
+    public RouteNetwork createRouteNetwork() { return new RouteNetwork(this, topology); }
+
+    /**
+     * Returns the distances between all stations located on the RailroadBarons Map,
+     * indexed by {@link #getStationIndex(Station)}. The distances are shared by every
+     * game of the template and computed the first time any of them asks.
+     *
+     * @return distances between the stations
+     */
+
+    public StationDistances getDistances() {
+        StationDistances result = distances;
+        if (result == null){
+            result = StationDistances.forMap(this);
+            distances = result;
+        }
+        return result;
+    }
+}
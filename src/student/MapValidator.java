@@ -0,0 +1,409 @@
+package student;
+
+import model.RailroadBaronsException;
+
+import java.util.*;
+
+/**
+ * Validates the stations and routes of a RailroadBarons Map in a single pass
+ * Every station and track is marked in an occupancy bitset packed over the bounding box
+ * of the stations as it is added, so overlapping tracks and stations, routes that do not
+ * run east or south, negative coordinates and unknown station numbers are all found while
+ * the map is read, and every problem is reported together.
+ *
+ * @author Shannon Quinn
+ * @author Brennan Reed
+ */
+
+public class MapValidator {
+
+    /**
+     * Number of problems listed in the exception thrown by check
+     */
+    public static final int MAX_REPORTED = 100;
+
+    /**
+     * Bounding boxes with at most this many locations, or 256 per station, use a bitset,
+     * larger ones only store the occupied locations
+     */
+    private static final long BITSET_LIMIT = 1L << 27;
+
+    /**
+     * key of an empty slot
+     */
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    /**
+     * number, row, column and line of each station, by order added
+     */
+    private int[] numbers, rows, cols, stationLines;
+
+    /**
+     * number of stations
+     */
+    private int stationCount;
+
+    /**
+     * station numbers and the index of their station, open addressing
+     */
+    private int[] indexKeys, indexValues;
+
+    /**
+     * number of station numbers in the index
+     */
+    private int indexSize;
+
+    /**
+     * problems found so far
+     */
+    private final List<Problem> problems;
+
+    /**
+     * occupied locations of the bounding box, null until the first route is added
+     */
+    private long[] occupancy;
+
+    /**
+     * occupied locations packed into longs, used instead of the bitset for sparse maps
+     */
+    private long[] cells;
+
+    /**
+     * number of occupied locations in cells
+     */
+    private int cellCount;
+
+    /**
+     * top row, left column and width of the bounding box
+     */
+    private int minRow, minCol;
+    private long width;
+
+    /**
+     * creates instance of class
+     */
+
+    public MapValidator() {
+        numbers = new int[16];
+        rows = new int[16];
+        cols = new int[16];
+        stationLines = new int[16];
+        indexKeys = new int[32];
+        indexValues = new int[32];
+        Arrays.fill(indexValues, -1);
+        problems = new ArrayList<>();
+    }
+
+    /**
+     * Adds a station, all stations must be added before the first route
+     *
+     * @param number number of the station
+     * @param row row of the station
+     * @param col column of the station
+     * @param line line the station was read from, 0 if unknown
+     */
+
+    public void addStation(int number, int row, int col, int line) {
+        if (occupancy != null || cells != null){
+            throw new IllegalStateException("Stations must be added before routes.");
+        }
+        if (stationCount == numbers.length){
+            int capacity = stationCount * 2;
+            numbers = Arrays.copyOf(numbers, capacity);
+            rows = Arrays.copyOf(rows, capacity);
+            cols = Arrays.copyOf(cols, capacity);
+            stationLines = Arrays.copyOf(stationLines, capacity);
+        }
+        numbers[stationCount] = number;
+        rows[stationCount] = row;
+        cols[stationCount] = col;
+        stationLines[stationCount] = line;
+        if (row < 0 || col < 0){
+            addProblem(line, "station " + number + " is out of range at (" + row + ", " + col + ")");
+        }
+        if (!putIndex(number, stationCount)){
+            addProblem(line, "station number " + number + " is used by more than one station");
+        }
+        stationCount++;
+    }
+
+    /**
+     * Adds a route, marking its tracks
+     *
+     * @param origin number of the origin station
+     * @param destination number of the destination station
+     * @param line line the route was read from, 0 if unknown
+     */
+
+    public void addRoute(int origin, int destination, int line) {
+        if (occupancy == null && cells == null){
+            markStations();
+        }
+        int from = indexOf(origin);
+        int to = indexOf(destination);
+        if (from == -1 || to == -1){
+            addProblem(line, "unknown station " + (from == -1 ? origin : destination));
+            return;
+        }
+        if (!runsEastOrSouth(rows[from], cols[from], rows[to], cols[to])){
+            addProblem(line, "route " + origin + " " + destination + " must run east or south from its origin");
+            return;
+        }
+        if (rows[from] < 0 || cols[from] < 0){
+            return;
+        }
+        boolean horizontal = rows[from] == rows[to];
+        int overlapRow = -1, overlapCol = -1;
+        int row = rows[from], col = cols[from];
+        for (int length = horizontal ? cols[to] - col - 1 : rows[to] - row - 1; length > 0; length--) {
+            if (horizontal){
+                col++;
+            } else {
+                row++;
+            }
+            if (!mark(row, col) && overlapRow == -1){
+                overlapRow = row;
+                overlapCol = col;
+            }
+        }
+        if (overlapRow != -1){
+            addProblem(line, "route " + origin + " " + destination + " overlaps another route or station at ("
+                    + overlapRow + ", " + overlapCol + ")");
+        }
+    }
+
+    /**
+     * Records a problem found outside the validator, such as a line that could not be read
+     *
+     * @param line line of the problem, 0 if unknown
+     * @param message description of the problem
+     */
+
+    public void addProblem(int line, String message) { problems.add(new Problem(line, message)); }
+
+    /**
+     * @param number a station number
+     * @return index of the station with the number, in the order stations were added,
+     * or -1 if there is none
+     */
+
+    public int indexOf(int number) {
+        int mask = indexKeys.length - 1;
+        for (int slot = hash(number) & mask; indexValues[slot] != -1; slot = (slot + 1) & mask) {
+            if (indexKeys[slot] == number){
+                return indexValues[slot];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return every problem found, ordered by line
+     */
+
+    public List<String> getProblems() {
+        if (occupancy == null && cells == null){
+            markStations();
+        }
+        List<Problem> sorted = new ArrayList<>(problems);
+        sorted.sort(Comparator.comparingInt(problem -> problem.line));
+        List<String> messages = new ArrayList<>(sorted.size());
+        for (Problem problem: sorted) {
+            messages.add(problem.line > 0 ? "Line " + problem.line + ": " + problem.message : problem.message);
+        }
+        return messages;
+    }
+
+    /**
+     * @throws RailroadBaronsException If any problem was found, listing the problems one per line
+     */
+
+    public void check() throws RailroadBaronsException {
+        List<String> messages = getProblems();
+        if (!messages.isEmpty()){
+            StringBuilder report = new StringBuilder();
+            for (int i = 0; i < Math.min(messages.size(), MAX_REPORTED); i++) {
+                if (i > 0){
+                    report.append('\n');
+                }
+                report.append(messages.get(i));
+            }
+            if (messages.size() > MAX_REPORTED){
+                report.append("\n... and ").append(messages.size() - MAX_REPORTED).append(" more problems");
+            }
+            throw new RailroadBaronsException(report.toString());
+        }
+    }
+
+    /**
+     * @param fromRow row of the origin
+     * @param fromCol column of the origin
+     * @param toRow row of the destination
+     * @param toCol column of the destination
+     * @return true if the destination is directly east or south of the origin
+     */
+
+    public static boolean runsEastOrSouth(int fromRow, int fromCol, int toRow, int toCol) {
+        return (fromRow == toRow && fromCol < toCol) || (fromCol == toCol && fromRow < toRow);
+    }
+
+    /**
+     * Sizes the occupancy over the bounding box of the stations and marks every station
+     */
+
+    private void markStations() {
+        int maxRow = 0, maxCol = 0;
+        minRow = Integer.MAX_VALUE;
+        minCol = Integer.MAX_VALUE;
+        for (int i = 0; i < stationCount; i++) {
+            if (rows[i] >= 0 && cols[i] >= 0){
+                minRow = Math.min(minRow, rows[i]);
+                minCol = Math.min(minCol, cols[i]);
+                maxRow = Math.max(maxRow, rows[i]);
+                maxCol = Math.max(maxCol, cols[i]);
+            }
+        }
+        if (minRow > maxRow){
+            minRow = 0;
+            minCol = 0;
+        }
+        width = (long) maxCol - minCol + 1;
+        long locations = ((long) maxRow - minRow + 1) * width;
+        if (locations <= Math.max(BITSET_LIMIT, 256L * stationCount)){
+            occupancy = new long[(int) ((locations + 63) >>> 6)];
+        } else {
+            cells = new long[64];
+            Arrays.fill(cells, EMPTY);
+        }
+        for (int i = 0; i < stationCount; i++) {
+            if (rows[i] >= 0 && cols[i] >= 0 && !mark(rows[i], cols[i])){
+                addProblem(stationLines[i], "station " + numbers[i] + " is on the same space as another station");
+            }
+        }
+    }
+
+    /**
+     * Marks a location as occupied
+     *
+     * @param row row of the location, within the bounding box
+     * @param col column of the location, within the bounding box
+     * @return false if the location was already occupied
+     */
+
+    private boolean mark(int row, int col) {
+        long location = (row - minRow) * width + (col - minCol);
+        if (occupancy != null){
+            int word = (int) (location >>> 6);
+            long bit = 1L << location;
+            if ((occupancy[word] & bit) != 0){
+                return false;
+            }
+            occupancy[word] |= bit;
+            return true;
+        }
+        if (cellCount * 4 >= cells.length * 3){
+            long[] old = cells;
+            cells = new long[old.length * 2];
+            Arrays.fill(cells, EMPTY);
+            cellCount = 0;
+            for (long key: old) {
+                if (key != EMPTY){
+                    insertCell(key);
+                }
+            }
+        }
+        return insertCell(location);
+    }
+
+    /**
+     * @param location packed location
+     * @return false if the location was already stored
+     */
+
+    private boolean insertCell(long location) {
+        int mask = cells.length - 1;
+        int slot = hash(location) & mask;
+        while (cells[slot] != EMPTY) {
+            if (cells[slot] == location){
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        cells[slot] = location;
+        cellCount++;
+        return true;
+    }
+
+    /**
+     * @param number a station number
+     * @param index index of its station
+     * @return false if the number was already in the index
+     */
+
+    private boolean putIndex(int number, int index) {
+        if (indexSize * 4 >= indexKeys.length * 3){
+            int[] oldKeys = indexKeys;
+            int[] oldValues = indexValues;
+            indexKeys = new int[oldKeys.length * 2];
+            indexValues = new int[oldKeys.length * 2];
+            Arrays.fill(indexValues, -1);
+            indexSize = 0;
+            for (int slot = 0; slot < oldKeys.length; slot++) {
+                if (oldValues[slot] != -1){
+                    putIndex(oldKeys[slot], oldValues[slot]);
+                }
+            }
+        }
+        int mask = indexKeys.length - 1;
+        int slot = hash(number) & mask;
+        while (indexValues[slot] != -1) {
+            if (indexKeys[slot] == number){
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        indexKeys[slot] = number;
+        indexValues[slot] = index;
+        indexSize++;
+        return true;
+    }
+
+    /**
+     * @param key a key
+     * @return well mixed hash of the key
+     */
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * A problem and the line it was found on
+     */
+
+    private static class Problem {
+
+        /**
+         * line of the problem, 0 if unknown
+         */
+        private final int line;
+
+        /**
+         * description of the problem
+         */
+        private final String message;
+
+        /**
+         * creates instance of class
+         *
+         * @param line line of the problem, 0 if unknown
+         * @param message description of the problem
+         */
+
+        Problem(int line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+    }
+}
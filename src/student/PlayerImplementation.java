@@ -20,9 +20,9 @@ public class PlayerImplementation implements Player {
     protected Collection<PlayerObserver> observers;
 
     /**
-     * The cards in the players hand
+     * The cards in the players hand, bucketed by how many of each are held
      */
-    protected Map<Card, Integer> cards;
+    protected SpendPlanner hand;
 
     /**
      * The collection of all routes claimed by the user
@@ -50,16 +50,9 @@ public class PlayerImplementation implements Player {
     protected boolean routeClaimed;
 
     /**
-     * Graph of all stations
-     * Used for northSouth Bonus
+     * Connectivity of the routes claimed by every player in the game
      */
-    protected Graph<Station> northSouthGraph;
-
-    /**
-     * Graph of all stations
-     * Used for eastWest Bonus
-     */
-    protected Graph<Station> eastWestGraph;
+    protected RouteNetwork network;
 
     /**
      * flag to determine if player already received bonus
@@ -89,33 +82,10 @@ public class PlayerImplementation implements Player {
     protected int cols;
 
     /**
-     * The current score of the player
-     */
-    protected int score;
-
-    /**
-     * Station connected to all stations located at the
-     * North-Most row on the RailroadBarons Map
-     */
-    protected Station northMost;
-
-    /**
-     * Station connected to all stations located at the
-     * South-Most row on the RailroadBarons Map
+     * The current score of the player, bonuses included, updated when a route is claimed
+     * so it can be read any number of times from any thread
      */
-    protected Station southMost;
-
-    /**
-     * Station connected to all stations located at the
-     * East-Most column on the RailroadBarons Map
-     */
-    protected Station eastMost;
-
-    /**
-     * Station connected to all stations located at the
-     * West-Most column on the RailroadBarons Map
-     */
-    protected Station westMost;
+    protected volatile int score;
 
     /**
      * Creates an instance of Player
@@ -124,12 +94,10 @@ public class PlayerImplementation implements Player {
      */
 
     public PlayerImplementation(Baron baron){
-        northSouthGraph = new Graph<>();
-        eastWestGraph = new Graph<>();
         routeClaimed = true;
         this.baron = baron;
         observers = new HashSet<>();
-        cards = new HashMap<>();
+        hand = new SpendPlanner();
         claimedRoutes = new HashSet<>();
         piecesRemaining = 45;
         score = 0;
@@ -157,22 +125,9 @@ public class PlayerImplementation implements Player {
         score = 0;
         routeClaimed = true;
         piecesRemaining = 45;
-        northSouthGraph = new Graph<>();
-        eastWestGraph = new Graph<>();
-        cards = new HashMap<>();
+        hand.clear();
         westEastBonus = false;
         northSouthBonus = false;
-        northMost = new StationImplementation(0, 0, 0, "North_Most");
-        southMost = new StationImplementation(0, 0, 0, "South_Most");
-        eastMost = new StationImplementation(0, 0, 0, "East_Most");
-        westMost = new StationImplementation(0, 0, 0, "West_Most");
-        northSouthGraph.addVertex(northMost);
-        northSouthGraph.addVertex(southMost);
-        eastWestGraph.addVertex(eastMost);
-        eastWestGraph.addVertex(westMost);
-        for (Card card: model.Card.values()){
-            cards.put(card, 0);
-        }
         claimedRoutes = new HashSet<>();
         lastPair = new PairImplementation(Card.NONE, Card.NONE);
         for (Card card: dealt) {
@@ -225,7 +180,10 @@ public class PlayerImplementation implements Player {
 
     @Override
     public void startTurn(Pair dealt) {
-        gameStarted = true;
+        if (!gameStarted){
+            gameStarted = true;
+            awardBonuses(score);
+        }
         routeClaimed = false;
         lastPair = dealt;
         Card first = dealt.getFirstCard();
@@ -258,7 +216,7 @@ public class PlayerImplementation implements Player {
      */
 
     @Override
-    public int countCardsInHand(Card card) { return cards.get(card); }
+    public int countCardsInHand(Card card) { return hand.count(card); }
 
     /**
      * Returns the number of game pieces that the player has remaining. Note
@@ -319,87 +277,36 @@ public class PlayerImplementation implements Player {
 
     @Override
     public void claimRoute(Route route) throws RailroadBaronsException {
-        int num, length, count;
-        length = route.getLength();
-
-        /*
-        Uses the card with the same amount as the length of the route
-         */
-
-        for (Card card: cards.keySet()){
-            if (!card.equals(Card.WILD) && cards.get(card) == length) {
-                if (!route.claim(baron)) {
-                    throw new RailroadBaronsException("The route has already been claimed!");
-                } else{
-                    cards.put(card, 0);
-                    routeClaimed = true;
-                    claimedRoutes.add(route);
-                    piecesRemaining -= route.getLength();
-                    connectStations(route.getOrigin(), route.getDestination());
-                    score += route.getPointValue();
-                    for (PlayerObserver observer: observers) {
-                        observer.playerChanged(this);
-                    }
-                    return;
-                }
-            }
+        int length = route.getLength();
+        int plan = hand.plan(length, piecesRemaining);
+        if (plan == SpendPlanner.NO_PLAN){
+            return;
         }
-
-        /*
-        Uses the card with the lowest number necessary to match the length of the route
-         */
-
-        for (int i = length; i < piecesRemaining; i++){
-            for (Card card: cards.keySet()){
-                if (!card.equals(Card.WILD) && cards.get(card) == i) {
-                    if (!route.claim(baron)) {
-                        throw new RailroadBaronsException("The route has already been claimed!");
-                    } else{
-                        cards.put(card, i - length);
-                        piecesRemaining -= length;
-                        routeClaimed = true;
-                        claimedRoutes.add(route);
-                        connectStations(route.getOrigin(), route.getDestination());
-                        score += route.getPointValue();
-                        for (PlayerObserver observer: observers) {
-                            observer.playerChanged(this);
-                        }
-                        return;
-                    }
-                }
-            }
+        if (!route.claim(baron)) {
+            throw new RailroadBaronsException("The route has already been claimed!");
         }
-
-        /*
-        Last resort, Wild Card is required to claim route
-         */
-
-        for (Card card: cards.keySet()){
-            if (card.equals(Card.WILD)){
-                continue;
-            }
-            num = cards.get(Card.WILD);
-            count = cards.get(card);
-            if (count > 0 && count + 1 == length){
-                if (!route.claim(baron)) {
-                    throw new RailroadBaronsException("The route has already been claimed!");
-                } else {
-                    cards.put(card, 0);
-                    cards.put(Card.WILD, num-1);
-                    routeClaimed = true;
-                    claimedRoutes.add(route);
-                    connectStations(route.getOrigin(), route.getDestination());
-                    piecesRemaining -= length;
-                    score += route.getPointValue();
-                    for (PlayerObserver observer: observers) {
-                        observer.playerChanged(this);
-                    }
-                    return;
-                }
-            }
+        hand.spend(plan);
+        piecesRemaining -= length;
+        routeClaimed = true;
+        claimedRoutes.add(route);
+        network.claim(route, baron);
+        awardBonuses(score + route.getPointValue());
+        for (PlayerObserver observer: observers) {
+            observer.playerChanged(this);
         }
     }
 
+    /**
+     * Returns the cards claiming a route would spend, without claiming it or
+     * changing the hand
+     *
+     * @param route The {@link Route} that may be claimed.
+     * @return the plan, read with the {@link SpendPlanner} accessors, or
+     * {@link SpendPlanner#NO_PLAN} if the hand cannot pay for the route
+     */
+
+    public int planClaim(Route route) { return hand.plan(route.getLength(), piecesRemaining); }
+
     /**
      * Returns the {@linkplain Collection collection} of {@linkplain RouteImplementation
      * routes} claimed by this player.
@@ -420,26 +327,39 @@ public class PlayerImplementation implements Player {
      */
 
     @Override
-    public int getScore() {
-        if (!westEastBonus && gameStarted){
-            if (eastWestGraph.breadthFirstSearch(westMost, eastMost)){
-                if (eastWestGraph.buildPathBFS(westMost, eastMost).size() >= 5){
-                    score += cols*5;
-                    westEastBonus = true;
-                }
+    public int getScore() { return score; }
+
+    /**
+     * Adds the bonus for each side to side path the player has newly completed, and
+     * publishes the new score
+     *
+     * @param points score before the bonuses
+     */
+
+    private void awardBonuses(int points) {
+        if (gameStarted && network != null){
+            if (!westEastBonus && network.hasWestEastPath(baron)){
+                points += cols*5;
+                westEastBonus = true;
             }
-        }
-        if (!northSouthBonus && gameStarted){
-            if (northSouthGraph.breadthFirstSearch(northMost, southMost)){
-                if (northSouthGraph.buildPathBFS(northMost, southMost).size() >= 5){
-                    score += 5*rows;
-                    northSouthBonus = true;
-                }
+            if (!northSouthBonus && network.hasNorthSouthPath(baron)){
+                points += 5*rows;
+                northSouthBonus = true;
             }
         }
-        return score;
+        score = points;
     }
 
+    /**
+     * Returns the number of {@linkplain TrackImplementation tracks} in the player's
+     * longest continuous railroad through their claimed {@linkplain RouteImplementation routes}.
+     *
+     * @return The length of the player's longest continuous railroad.
+     */
+
+    @Override
+    public int getLongestRailroad() { return network == null ? 0 : network.getLongestRailroad(baron); }
+
     /**
      * Returns true iff the following conditions are true:
      * <p>
@@ -500,36 +420,24 @@ public class PlayerImplementation implements Player {
      */
 
     public void addCard(Card card){
-        if (!card.equals(Card.NONE)){
-            int count = cards.get(card);
-            count++;
-            cards.put(card, count);
+        if (card != Card.NONE){
+            hand.add(card);
         }
     }
 
     /**
      * Determines whether the player has a sufficient number of cards to claim a
-     * route of a specified length
+     * route of a specified length, in constant time from the largest number of any
+     * card but the wild card
      *
      * @param length the length of the specified route
      * @return whether the player has enough cards to claim a route
      */
 
     public boolean sufficientCards(int length){
-        int wild = cards.get(Card.WILD);
-        if (wild > 0){
-            wild = 1;
-        }
-        for (Card card: cards.keySet()){
-            if (card.equals(Card.WILD)){
-                continue;
-            }
-            int num = cards.get(card);
-            if (num > 0  && num + wild >= length) {
-                return true;
-            }
-        }
-        return false;
+        int wild = hand.count(Card.WILD) > 0 ? 1 : 0;
+        int most = hand.getMaxNonWild();
+        return most > 0 && most + wild >= length;
     }
 
     /**
@@ -545,60 +453,12 @@ public class PlayerImplementation implements Player {
     }
 
     /**
-     * Connects the stations in the graph
+     * Gives the player the network of claimed routes shared by all players in the game
      *
-     * @param origin the station of origin for a route
-     * @param destination the destination station for a route
+     * @param network connectivity of the routes claimed in the game
      */
 
-    public void connectStations(Station origin, Station destination){
-        eastWestGraph.connect(origin, destination);
-        northSouthGraph.connect(origin, destination);
-    }
-
-    /**
-     * Adds and connects all boundary stations to the Station Graph
-     *
-     * @param map map containing all stations located on the map boundary's
-     */
-
-    public void addBoundaryStations(Map<String, ArrayList<Station>> map){
-        for (String key: map.keySet()) {
-            switch (key){
-                case "North":
-                    for (Station station: map.get(key)) {
-                        northSouthGraph.connect(station, northMost);
-                    }
-                    break;
-                case "South":
-                    for (Station station: map.get(key)) {
-                       northSouthGraph.connect(station, southMost);
-                    }
-                    break;
-                case "East":
-                    for (Station station: map.get(key)) {
-                        eastWestGraph.connect(station, eastMost);
-                    }
-                    break;
-                case "West":
-                    for (Station station: map.get(key)) {
-                        eastWestGraph.connect(station, westMost);
-                    }
-                    break;
-            }
-        }
-    }
-
-    /**
-     * Adds all RailroadBarons Stations to the graph
-     *
-     * @param stations List of all Stations
-     */
-
-    public void addStations(List<Station> stations){
-        for (Station station: stations) {
-            northSouthGraph.addVertex(station);
-            eastWestGraph.addVertex(station);
-        }
+    public void addRouteNetwork(RouteNetwork network){
+        this.network = network;
     }
 }
\ No newline at end of file
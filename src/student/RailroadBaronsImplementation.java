@@ -51,6 +51,16 @@ public class RailroadBaronsImplementation implements RailroadBarons{
      */
     private int currentPlayerIndex;
 
+    /**
+     * Keeps track of whether the game is over
+     */
+    private GameOverTracker gameOver;
+
+    /**
+     * Cards drawn at the start of a turn, reused every turn
+     */
+    private final Card[] drawn;
+
     /**
      * Default, parameter-less constructor
      */
@@ -62,6 +72,8 @@ public class RailroadBaronsImplementation implements RailroadBarons{
         players.add(new PlayerImplementation(Baron.GREEN));
         players.add(new PlayerImplementation(Baron.BLUE));
         players.add(new PlayerImplementation(Baron.YELLOW));
+        gameOver = new GameOverTracker(players);
+        drawn = new Card[2];
     }
 
     /**
@@ -106,6 +118,8 @@ public class RailroadBaronsImplementation implements RailroadBarons{
      * <li>An initial hand of 4 cards dealt from the deck to each
      * player</li>
      * </ul>
+     * Routes the map already has an owner for, such as the claims of a replayed
+     * {@link ClaimJournal}, stay claimed but are not credited to any player.
      *
      * @param map The {@link RailroadMapImplementation} on which the game will be played.
      */
@@ -115,6 +129,7 @@ public class RailroadBaronsImplementation implements RailroadBarons{
 
         this.map = map;
         RailroadMapImplementation castedMap = (RailroadMapImplementation) map;
+        castedMap.getRouteNetwork().reset();
         deck = new DeckImplementation();
         routes = map.getRoutes();
         currentPlayerIndex = new Random().nextInt( 4);
@@ -125,12 +140,12 @@ public class RailroadBaronsImplementation implements RailroadBarons{
             player.reset(createHand());
             PlayerImplementation p = (PlayerImplementation) player;
             p.addBoardSize(rows, cols);
-            p.addStations(castedMap.getStations());
-            p.addBoundaryStations(castedMap.getBoundaryStations());
+            p.addRouteNetwork(castedMap.getRouteNetwork());
         }
 
+        gameOver.startGame(castedMap);
         currentPlayer = players.get(currentPlayerIndex);
-        currentPlayer.startTurn(new PairImplementation(deck.drawACard(), deck.drawACard()));
+        currentPlayer.startTurn(drawPair());
         for (RailroadBaronsObserver observer: observers) {
             observer.turnStarted(this, currentPlayer);
         }
@@ -143,6 +158,7 @@ public class RailroadBaronsImplementation implements RailroadBarons{
      * the {@link Deck} interface (not just a specific implementation)!
      * Otherwise, the starting state of the game is the same as a
      * {@linkplain //startAGameWith(RailroadMap) normal game}.
+     * Routes the map already has an owner for stay claimed but are not credited to any player.
      *
      * @param map  The {@link RailroadMapImplementation} on which the game will be played.
      * @param deck The {@link Deck} of cards used to play the game. This may
@@ -159,6 +175,7 @@ public class RailroadBaronsImplementation implements RailroadBarons{
         routes = map.getRoutes();
         currentPlayerIndex = new Random().nextInt( 4);
         RailroadMapImplementation castedMap = (RailroadMapImplementation) map;
+        castedMap.getRouteNetwork().reset();
         int rows = map.getRows();
         int cols = map.getCols();
 
@@ -166,12 +183,12 @@ public class RailroadBaronsImplementation implements RailroadBarons{
             player.reset(createHand());
             PlayerImplementation p = (PlayerImplementation) player;
             p.addBoardSize(rows, cols);
-            p.addStations(castedMap.getStations());
-            p.addBoundaryStations(castedMap.getBoundaryStations());
+            p.addRouteNetwork(castedMap.getRouteNetwork());
         }
 
+        gameOver.startGame(castedMap);
         currentPlayer = players.get(currentPlayerIndex);
-        currentPlayer.startTurn(new PairImplementation(deck.drawACard(), deck.drawACard()));
+        currentPlayer.startTurn(drawPair());
         for (RailroadBaronsObserver observer : observers) {
             observer.turnStarted(this, currentPlayer);
         }
@@ -272,7 +289,7 @@ public class RailroadBaronsImplementation implements RailroadBarons{
             for (RailroadBaronsObserver observer: observers) {
                 observer.turnStarted(this, currentPlayer);
             }
-            currentPlayer.startTurn(new PairImplementation(deck.drawACard(), deck.drawACard()));
+            currentPlayer.startTurn(drawPair());
         }
     }
 
@@ -295,6 +312,18 @@ public class RailroadBaronsImplementation implements RailroadBarons{
     @Override
     public Collection<Player> getPlayers() { return players; }
 
+    /**
+     * Returns the {@linkplain PlayerImplementation player} with the longest continuous
+     * railroad, for games played with the longest railroad scoring variant.
+     *
+     * @return The {@link PlayerImplementation} whose longest continuous railroad is
+     * longer than that of every other player, or null if no route has been claimed
+     * or the longest railroads are tied.
+     */
+
+    @Override
+    public Player getLongestRailroadPlayer() { return LongestRailroad.findLongestPlayer(players); }
+
     /**
      * Indicates whether or not the game is over. This occurs when no more
      * plays can be made. Reasons include:
@@ -308,21 +337,17 @@ public class RailroadBaronsImplementation implements RailroadBarons{
      */
 
     @Override
-    public boolean gameIsOver() {
-        boolean playerContinue = true;
-        boolean routeContinue = true;
+    public boolean gameIsOver() { return gameOver.isGameOver(); }
 
-        for (Player player: players){
-            if(player.canContinuePlaying(map.getLengthOfShortestUnclaimedRoute())){
-                playerContinue = false;
-            }
-        }
-        for (Route route: routes){
-            if (route.getBaron().equals(Baron.UNCLAIMED)){
-                routeContinue = false;
-            }
-        }
-        return playerContinue || routeContinue;
+    /**
+     * Draws the two cards dealt to the current player at the start of a turn
+     *
+     * @return pair of drawn cards
+     */
+
+    private Pair drawPair(){
+        deck.drawCards(drawn.length, drawn);
+        return new PairImplementation(drawn[0], drawn[1]);
     }
 
     /**
@@ -333,10 +358,7 @@ public class RailroadBaronsImplementation implements RailroadBarons{
 
     public Card[] createHand(){
         Card[] hand = new Card[4];
-
-        for (int i = 0; i < 4; i++){
-            hand[i] = deck.drawACard();
-        }
+        deck.drawCards(hand.length, hand);
         return hand;
     }
 }
\ No newline at end of file
@@ -7,6 +7,8 @@ import java.util.*;
 /**
  * Implementation of the RailroadMap interface
  * Represents the map used in the RailroadBarons game
+ * The layout of the map is a {@link MapTemplate} that can be shared between games,
+ * each map only keeps the owner of every route in the game being played on it
  *
  * @author Shannon Quinn
  * @author Brennan Reed
@@ -14,6 +16,11 @@ import java.util.*;
 
 public class RailroadMapImplementation implements RailroadMap{
 
+    /**
+     * Every Baron, indexed by ordinal
+     */
+    private static final Baron[] BARONS = Baron.values();
+
     /**
      * Set of RailroadMapObservers
      */
@@ -36,44 +43,29 @@ public class RailroadMapImplementation implements RailroadMap{
     private Set<Route> claimedRoutes;
 
     /**
-     * HashMap of all tracks contained in the map
+     * Layout of the map, shared with every other game played on it
      */
-    private Route[][] tracks;
+    private final MapTemplate template;
 
     /**
-     * HashMap of all spaces contained in the map
+     * Baron ordinal of the owner of each route, indexed by route id
      */
-    private Space[][] spaces;
+    private final byte[] owners;
 
     /**
-     * List of all stations contained in the map
+     * List of all routes located in the map, indexed by route id
      */
-    private List<Station> stations;
+    private final List<Route> routeList;
 
     /**
-     * Number of rows in the map
+     * Unclaimed routes bucketed by length
      */
-    private int rows;
+    private RouteLengthIndex unclaimedLengths;
 
     /**
-     * Number of columns in the map
+     * Connectivity of the routes claimed by each Baron
      */
-    private int cols;
-
-    /**
-     * Starting row for station placement
-     */
-    private int min_Row;
-
-    /**
-     * Starting column for station placement
-     */
-    private int min_Col;
-
-    /**
-     * Map containing all stations located on the boundary's of the RailroadBarons Map
-     */
-    private Map<String, ArrayList<Station>> boundaryStations;
+    private RouteNetwork network;
 
     /**
      * Creates an instance of RailroadMap
@@ -83,55 +75,83 @@ public class RailroadMapImplementation implements RailroadMap{
      */
 
     public RailroadMapImplementation(Set<Route> routes, List<Station> stations){
-        this.routes = routes;
-        this.stations = stations;
-        rows = stations.stream().mapToInt(Station::getRow).max().getAsInt()+1;
-        cols = stations.stream().mapToInt(Station::getCol).max().getAsInt()+1;
-        min_Row = stations.stream().mapToInt(Station::getRow).min().getAsInt()+1;
-        min_Col = stations.stream().mapToInt(Station::getCol).min().getAsInt()+1;
-        spaces = new Space[rows][cols];
-        tracks = new Route[rows][cols];
+        this(new MapTemplate(routes, stations));
+    }
+
+    /**
+     * Creates an instance of RailroadMap for a new game on a shared layout, every route
+     * starts with the owner it had when the template was created
+     *
+     * @param template Layout of the map
+     */
+
+    public RailroadMapImplementation(MapTemplate template){
+        this.template = template;
+        List<Route> templateRoutes = template.getRouteList();
+        owners = new byte[templateRoutes.size()];
+        List<Route> gameRoutes = new ArrayList<>(templateRoutes.size());
+        for (int id = 0; id < owners.length; id++) {
+            owners[id] = template.getOwner(id);
+            gameRoutes.add(new GameRoute(templateRoutes.get(id), id, this));
+        }
+        routeList = Collections.unmodifiableList(gameRoutes);
+        routes = new LinkedHashSet<>(routeList);
         unclaimedRoutes = new HashSet<>();
         claimedRoutes = new HashSet<>();
         observers = new HashSet<>();
-        boundaryStations = new HashMap<>();
-        boundaryStations.put("North", new ArrayList<>());
-        boundaryStations.put("South", new ArrayList<>());
-        boundaryStations.put("East", new ArrayList<>());
-        boundaryStations.put("West", new ArrayList<>());
 
-        for (Route route: routes) {
+        for (Route route: routeList) {
             if(route.getBaron().equals(Baron.UNCLAIMED)){
                 unclaimedRoutes.add(route);
             } else{
                 claimedRoutes.add(route);
             }
         }
-        for(Route route: routes){
-            List<Track> trackList = route.getTracks();
-            for (Track track: trackList){
-                tracks[track.getRow()][track.getCol()] = track.getRoute();
-                spaces[track.getRow()][track.getCol()] = track;
-            }
-        }
-        for(Station station: this.stations){
-            int row = station.getRow();
-            int col = station.getCol();
-            spaces[row][col] = station;
-            if (row == min_Row-1){
-                boundaryStations.get("North").add(station);
-            }
-            if (row == rows-1){
-                boundaryStations.get("South").add(station);
-            }
-            if (col == min_Col-1){
-                boundaryStations.get("West").add(station);
-            }
-            if (col == cols-1){
-                boundaryStations.get("East").add(station);
-            }
-        }
+        unclaimedLengths = new RouteLengthIndex(unclaimedRoutes);
+        network = template.createRouteNetwork();
+    }
+
+    /**
+     * Creates a map for a new game on the same layout as this map, without copying
+     * the layout. Routes start with the owners they were loaded with, not the owners
+     * they have in this game.
+     *
+     * @return a map for a new game
+     */
+
+    public RailroadMapImplementation newGame(){ return new RailroadMapImplementation(template); }
+
+    /**
+     * Returns the layout of the map, shared with every other game played on it
+     *
+     * @return template of the map
+     */
+
+    public MapTemplate getTemplate(){ return template; }
+
+    /**
+     * Returns the owner of a route in this game
+     *
+     * @param id index of the route
+     * @return the Baron that has claimed the route
+     */
+
+    Baron getOwner(int id){ return BARONS[owners[id]]; }
+
+    /**
+     * Claims a route in this game if it is unclaimed
+     *
+     * @param id index of the route
+     * @param claimant the Baron claiming the route
+     * @return true if the route was claimed
+     */
 
+    boolean claimOwner(int id, Baron claimant){
+        if (owners[id] != Baron.UNCLAIMED.ordinal()){
+            return false;
+        }
+        owners[id] = (byte) claimant.ordinal();
+        return true;
     }
 
     /**
@@ -167,7 +187,7 @@ public class RailroadMapImplementation implements RailroadMap{
      */
 
     @Override
-    public int getRows() { return rows; }
+    public int getRows() { return template.getRows(); }
 
     /**
      * Returns the number of columns in the map. This is determined by the
@@ -177,7 +197,7 @@ public class RailroadMapImplementation implements RailroadMap{
      */
 
     @Override
-    public int getCols() { return cols; }
+    public int getCols() { return template.getCols(); }
 
     /**
      * Returns the {@linkplain SpaceImplementation space} located at the specified
@@ -190,7 +210,13 @@ public class RailroadMapImplementation implements RailroadMap{
      */
 
     @Override
-    public Space getSpace(int row, int col) { return spaces[row][col]; }
+    public Space getSpace(int row, int col) {
+        Route route = getRoute(row, col);
+        if (route != null){
+            return ((GameRoute) route).getTrack(row, col);
+        }
+        return template.getStation(row, col);
+    }
 
     /**
      * Returns the {@linkplain RouteImplementation route} that contains the
@@ -205,7 +231,19 @@ public class RailroadMapImplementation implements RailroadMap{
      */
 
     @Override
-    public Route getRoute(int row, int col) { return tracks[row][col]; }
+    public Route getRoute(int row, int col) {
+        Route route = template.getRoute(row, col);
+        return route == null ? null : routeList.get(template.getRouteIndex(route));
+    }
+
+    /**
+     * Determines whether the spaces of this map are stored sparsely, which is the case
+     * when most locations of the map are empty
+     *
+     * @return true if only occupied locations are stored
+     */
+
+    public boolean isSparse() { return template.isSparse(); }
 
     /**
      * Called to update the {@linkplain RailroadMapImplementation map} when a
@@ -216,8 +254,12 @@ public class RailroadMapImplementation implements RailroadMap{
 
     @Override
     public void routeClaimed(Route route) {
-        unclaimedRoutes.remove(route);
-        claimedRoutes.add(route);
+        // games also report routes a player failed to claim, which stay unclaimed
+        if (!route.getBaron().equals(Baron.UNCLAIMED)){
+            unclaimedRoutes.remove(route);
+            unclaimedLengths.claimed(route);
+            claimedRoutes.add(route);
+        }
         for (RailroadMapObserver observer: observers) {
             observer.routeClaimed(this, route);
         }
@@ -231,13 +273,41 @@ public class RailroadMapImplementation implements RailroadMap{
      */
 
     @Override
-    public int getLengthOfShortestUnclaimedRoute() {
-        if (unclaimedRoutes.size() == 0){
-            return 0;
-        }else {
-            return unclaimedRoutes.stream().mapToInt(Route::getLength).min().getAsInt();
-        }
-    }
+    public int getLengthOfShortestUnclaimedRoute() { return unclaimedLengths.getShortest(); }
+
+    /**
+     * Returns the length of the longest unclaimed {@linkplain RouteImplementation route}
+     * in the map.
+     *
+     * @return The length of the longest unclaimed {@link RouteImplementation}, or 0 if
+     * every route has been claimed.
+     */
+
+    public int getLengthOfLongestUnclaimedRoute() { return unclaimedLengths.getLongest(); }
+
+    /**
+     * Returns the unclaimed {@linkplain RouteImplementation routes} of a length
+     *
+     * @param length The number of tracks in the routes.
+     * @return An unmodifiable view of the unclaimed routes with that many tracks.
+     */
+
+    public List<Route> getUnclaimedRoutes(int length) { return unclaimedLengths.getRoutes(length); }
+
+    /**
+     * Returns the number of unclaimed {@linkplain RouteImplementation routes} of a length
+     *
+     * @param length The number of tracks in the routes.
+     * @return The number of unclaimed routes with that many tracks.
+     */
+
+    public int countUnclaimedRoutes(int length) { return unclaimedLengths.count(length); }
+
+    /**
+     * @return The number of unclaimed {@linkplain RouteImplementation routes} in the map.
+     */
+
+    public int countUnclaimedRoutes() { return unclaimedLengths.size(); }
 
     /**
      * Returns all of the {@link RouteImplementation Routes} in this map.
@@ -255,8 +325,8 @@ public class RailroadMapImplementation implements RailroadMap{
      * @return boundaryStations
      */
 
-    public Map<String, ArrayList<Station>> getBoundaryStations(){
-        return boundaryStations;
+    public Map<String, List<Station>> getBoundaryStations(){
+        return template.getBoundaryStations();
     }
 
     /**
@@ -266,9 +336,55 @@ public class RailroadMapImplementation implements RailroadMap{
      */
 
     public List<Station> getStations(){
-        return stations;
+        return template.getStations();
     }
 
+    /**
+     * Returns the index of a station in the list of stations
+     *
+     * @param station a station located on the RailroadBarons Map
+     * @return index of the station
+     */
+
+    public int getStationIndex(Station station){ return template.getStationIndex(station); }
+
+    /**
+     * Returns List containing all routes located on the RailroadBarons Map, in the
+     * order in which they were given to the map
+     *
+     * @return routeList
+     */
+
+    public List<Route> getRouteList(){ return routeList; }
+
+    /**
+     * Returns the index of a route in the list of routes
+     *
+     * @param route a route located on the RailroadBarons Map
+     * @return index of the route
+     */
+
+    public int getRouteIndex(Route route){ return template.getRouteIndex(route); }
+
+    /**
+     * Returns the connectivity of the routes claimed by each Baron, shared by all
+     * players of the game being played on this map
+     *
+     * @return network of claimed routes
+     */
+
+    public RouteNetwork getRouteNetwork(){ return network; }
+
+    /**
+     * Returns the distances between all stations located on the RailroadBarons Map,
+     * indexed by {@link #getStationIndex(Station)}. The distances are shared by every
+     * map loaded from the same content and computed the first time any of them asks.
+     *
+     * @return distances between the stations
+     */
+
+    public StationDistances getDistances(){ return template.getDistances(); }
+
     /**
      * get the set of unclaimed routes in this map
      * @return unclaimedRoutes
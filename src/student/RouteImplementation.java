@@ -2,7 +2,6 @@ package student;
 
 import model.*;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -38,7 +37,7 @@ public class RouteImplementation implements model.Route{
     private Orientation orientation;
 
     /**
-     * List of tracks contained in the route
+     * List of tracks contained in the route, each created when first requested
      */
     private List<Track> tracks;
 
@@ -53,37 +52,29 @@ public class RouteImplementation implements model.Route{
      * @param origin The routes station of origin
      * @param destination The routes destination
      * @param baron The route's current owner
+     * @throws IllegalArgumentException If the destination is not directly east or south of the origin
      */
 
     public RouteImplementation(Station origin, Station destination, Baron baron){
         this.origin = origin;
         this.destination = destination;
         this.baron = baron;
-        tracks = new ArrayList<>();
-        TrackImplementation track;
-
         if (origin.getRow() < destination.getRow() && origin.getCol() == destination.getCol()){
             orientation = Orientation.VERTICAL;
         }
         else if (origin.getRow() == destination.getRow() && origin.getCol() < destination.getCol()){
             orientation = Orientation.HORIZONTAL;
         } else {
-            System.out.println("Invalid station locations");
+            throw new IllegalArgumentException("Invalid station locations: a route must run east or south"
+                    + " from its origin");
         }
 
-        if (orientation.equals(Orientation.HORIZONTAL)) {
-
-            for (int i = origin.getCol()+1; i < destination.getCol(); i++) {
-                track = new TrackImplementation(this, origin.getRow(), i);
-                tracks.add(track);
-            }
+        if (orientation == Orientation.HORIZONTAL){
+            length = destination.getCol() - origin.getCol() - 1;
         } else {
-            for (int i = origin.getRow()+1; i < destination.getRow(); i++) {
-                track = new TrackImplementation(this, i, origin.getCol());
-                tracks.add(track);
-            }
+            length = destination.getRow() - origin.getRow() - 1;
         }
-        this.length = tracks.size();
+        tracks = new TrackList(this);
     }
 
     /**
@@ -194,14 +185,7 @@ public class RouteImplementation implements model.Route{
      */
 
     @Override
-    public boolean includesCoordinate(Space space) {
-        for (Track track:tracks) {
-            if (track.collocated(space)){
-                return true;
-            }
-        }
-        return false;
-    }
+    public boolean includesCoordinate(Space space) { return TrackList.offsetOf(this, space.getRow(), space.getCol()) != -1; }
 
     /**
      * Attempts to claim the route on behalf of the specified
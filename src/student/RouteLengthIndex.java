@@ -0,0 +1,153 @@
+package student;
+
+import model.Route;
+
+import java.util.*;
+
+/**
+ * Index of the unclaimed routes of a RailroadBarons Map, bucketed by length
+ * A bitset of the lengths with at least one unclaimed route answers shortest and
+ * longest queries without looking at any route
+ *
+ * @author Shannon Quinn
+ * @author Brennan Reed
+ */
+
+public class RouteLengthIndex {
+
+    /**
+     * unclaimed routes of each length, indexed by length
+     */
+    private final List<List<Route>> buckets;
+
+    /**
+     * position of each unclaimed route in its bucket
+     */
+    private final Map<Route, Integer> positions;
+
+    /**
+     * bitset of the lengths with at least one unclaimed route
+     */
+    private long[] lengths;
+
+    /**
+     * number of unclaimed routes
+     */
+    private int size;
+
+    /**
+     * creates instance of class
+     *
+     * @param routes the unclaimed routes of the map
+     */
+
+    public RouteLengthIndex(Collection<Route> routes) {
+        buckets = new ArrayList<>();
+        positions = new HashMap<>();
+        lengths = new long[1];
+        for (Route route: routes) {
+            add(route);
+        }
+    }
+
+    /**
+     * @return number of unclaimed routes
+     */
+
+    public int size() { return size; }
+
+    /**
+     * Returns the number of unclaimed routes of a length
+     *
+     * @param length number of tracks in the routes
+     * @return number of unclaimed routes with that many tracks
+     */
+
+    public int count(int length) { return length < buckets.size() ? buckets.get(length).size() : 0; }
+
+    /**
+     * Returns the unclaimed routes of a length
+     *
+     * @param length number of tracks in the routes
+     * @return unmodifiable view of the unclaimed routes with that many tracks
+     */
+
+    public List<Route> getRoutes(int length) {
+        if (length < 0 || length >= buckets.size()){
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(buckets.get(length));
+    }
+
+    /**
+     * @return length of the shortest unclaimed route, 0 if every route is claimed
+     */
+
+    public int getShortest() {
+        for (int word = 0; word < lengths.length; word++) {
+            if (lengths[word] != 0){
+                return word * 64 + Long.numberOfTrailingZeros(lengths[word]);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @return length of the longest unclaimed route, 0 if every route is claimed
+     */
+
+    public int getLongest() {
+        for (int word = lengths.length - 1; word >= 0; word--) {
+            if (lengths[word] != 0){
+                return word * 64 + 63 - Long.numberOfLeadingZeros(lengths[word]);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Removes a route that has been claimed, swapping the last route of its bucket
+     * into its place
+     *
+     * @param route the route that has been claimed
+     */
+
+    public void claimed(Route route) {
+        Integer position = positions.remove(route);
+        if (position == null){
+            return;
+        }
+        int length = route.getLength();
+        List<Route> bucket = buckets.get(length);
+        Route last = bucket.remove(bucket.size() - 1);
+        if (last != route){
+            bucket.set(position, last);
+            positions.put(last, position);
+        }
+        if (bucket.isEmpty()){
+            lengths[length / 64] &= ~(1L << length);
+        }
+        size--;
+    }
+
+    /**
+     * Adds an unclaimed route to the bucket of its length
+     *
+     * @param route an unclaimed route
+     */
+
+    private void add(Route route) {
+        int length = route.getLength();
+        while (buckets.size() <= length) {
+            buckets.add(new ArrayList<>());
+        }
+        if (length / 64 >= lengths.length){
+            lengths = Arrays.copyOf(lengths, length / 64 + 1);
+        }
+        List<Route> bucket = buckets.get(length);
+        positions.put(route, bucket.size());
+        bucket.add(route);
+        lengths[length / 64] |= 1L << length;
+        size++;
+    }
+}
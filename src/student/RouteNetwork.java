@@ -0,0 +1,342 @@
+package student;
+
+import model.Baron;
+import model.Route;
+import model.Station;
+
+import java.util.*;
+
+/**
+ * Connectivity of the routes claimed by every Baron in a RailroadBarons game
+ * One {@link Topology} of every route in the map is shared by all barons, and by every
+ * game played on the same {@link MapTemplate}. Each baron only records which routes it
+ * owns as a bitset over route ids, along with the connected components of its stations
+ *
+ * @author Shannon Quinn
+ * @author Brennan Reed
+ */
+
+public class RouteNetwork {
+
+    /**
+     * Boundary flags of a station, and of a component containing such a station
+     */
+    private static final int NORTH = 1, SOUTH = 2, EAST = 4, WEST = 8;
+
+    /**
+     * Layout of the map the network was built from
+     */
+    private final MapTemplate map;
+
+    /**
+     * Graph of every route in the map, edge ids are route ids
+     */
+    private final CompactGraph routes;
+
+    /**
+     * Number of tracks in each route, indexed by route id
+     */
+    private final int[] routeLengths;
+
+    /**
+     * Boundary flags of each station, indexed by station id
+     */
+    private final byte[] boundaries;
+
+    /**
+     * Routes owned by each baron as bitsets over route ids, indexed by baron ordinal
+     */
+    private long[][] owned;
+
+    /**
+     * Connected components of each baron's stations, indexed by baron ordinal
+     */
+    private DisjointSet[] components;
+
+    /**
+     * Boundary flags of each baron's components, valid at the root of each component
+     */
+    private byte[][] componentBoundaries;
+
+    /**
+     * Boundary pairs joined by a single station on both boundaries
+     */
+    private final byte stationShortcuts;
+
+    /**
+     * Boundary pairs of each baron joined by any of its components
+     */
+    private byte[] joined;
+
+    /**
+     * Boundary pairs of each baron joined by a path of fewer than 5 vertices (counting
+     * one pseudo-station per boundary), which can never qualify for a bonus
+     */
+    private byte[] shortcuts;
+
+    /**
+     * Longest continuous railroad of each baron
+     */
+    private LongestRailroad[] longestRailroads;
+
+    /**
+     * Creates a network with no claimed routes
+     *
+     * @param map layout of the map containing the routes and stations
+     * @param topology graph and boundaries of the map's routes and stations
+     */
+
+    public RouteNetwork(MapTemplate map, Topology topology) {
+        this.map = map;
+        routes = topology.routes;
+        routeLengths = topology.routeLengths;
+        boundaries = topology.boundaries;
+        stationShortcuts = topology.stationShortcuts;
+        reset();
+    }
+
+    /**
+     * Creates a network for another game on the same map, sharing the graph of routes
+     * and the boundaries of the given network
+     *
+     * @param shared network of the same map
+     */
+
+    public RouteNetwork(RouteNetwork shared) {
+        map = shared.map;
+        routes = shared.routes;
+        routeLengths = shared.routeLengths;
+        boundaries = shared.boundaries;
+        stationShortcuts = shared.stationShortcuts;
+        reset();
+    }
+
+    /**
+     * Clears the routes owned by every baron
+     */
+
+    public void reset() {
+        int barons = Baron.values().length;
+        owned = new long[barons][];
+        components = new DisjointSet[barons];
+        componentBoundaries = new byte[barons][];
+        joined = new byte[barons];
+        shortcuts = new byte[barons];
+        longestRailroads = new LongestRailroad[barons];
+    }
+
+    /**
+     * Records that a baron has claimed a route
+     *
+     * @param route the route that has been claimed
+     * @param baron the baron that claimed it
+     */
+
+    public void claim(Route route, Baron baron) {
+        int b = baron.ordinal();
+        if (owned[b] == null){
+            createBaron(b);
+        }
+        int id = map.getRouteIndex(route);
+        owned[b][id / 64] |= 1L << id;
+
+        int origin = routes.getEdgeSource(id);
+        int destination = routes.getEdgeTarget(id);
+        int originFlags = boundaries[origin];
+        int destinationFlags = boundaries[destination];
+        if (((originFlags & WEST) != 0 && (destinationFlags & EAST) != 0)
+                || ((originFlags & EAST) != 0 && (destinationFlags & WEST) != 0)){
+            shortcuts[b] |= WEST | EAST;
+        }
+        if (((originFlags & NORTH) != 0 && (destinationFlags & SOUTH) != 0)
+                || ((originFlags & SOUTH) != 0 && (destinationFlags & NORTH) != 0)){
+            shortcuts[b] |= NORTH | SOUTH;
+        }
+
+        byte[] flagsByRoot = componentBoundaries[b];
+        int root1 = components[b].find(origin);
+        int root2 = components[b].find(destination);
+        int root = components[b].union(root1, root2);
+        flagsByRoot[root] = (byte) (flagsByRoot[root1] | flagsByRoot[root2]);
+        int flags = flagsByRoot[root];
+        if ((flags & (WEST | EAST)) == (WEST | EAST)){
+            joined[b] |= WEST | EAST;
+        }
+        if ((flags & (NORTH | SOUTH)) == (NORTH | SOUTH)){
+            joined[b] |= NORTH | SOUTH;
+        }
+        longestRailroads[b].edgeAdded(id, routeLengths[id]);
+    }
+
+    /**
+     * Determines whether a baron owns a route
+     *
+     * @param route a route in the map
+     * @param baron a baron
+     * @return true if the baron has claimed the route
+     */
+
+    public boolean owns(Route route, Baron baron) {
+        long[] routeBits = owned[baron.ordinal()];
+        int id = map.getRouteIndex(route);
+        return routeBits != null && (routeBits[id / 64] & (1L << id)) != 0;
+    }
+
+    /**
+     * Determines whether two stations are connected by routes owned by a baron
+     *
+     * @param baron a baron
+     * @param station1 first station
+     * @param station2 second station
+     * @return true if a path of the baron's routes joins the stations
+     */
+
+    public boolean connected(Baron baron, Station station1, Station station2) {
+        DisjointSet stations = components[baron.ordinal()];
+        if (station1 == station2){
+            return true;
+        }
+        return stations != null && stations.connected(map.getStationIndex(station1), map.getStationIndex(station2));
+    }
+
+    /**
+     * Determines whether a baron's routes join the west and east boundaries by a
+     * shortest path of at least 5 vertices, counting one pseudo-station per boundary
+     *
+     * @param baron a baron
+     * @return true if the baron qualifies for the west to east bonus
+     */
+
+    public boolean hasWestEastPath(Baron baron) { return hasBoundaryPath(baron, WEST | EAST); }
+
+    /**
+     * Determines whether a baron's routes join the north and south boundaries by a
+     * shortest path of at least 5 vertices, counting one pseudo-station per boundary
+     *
+     * @param baron a baron
+     * @return true if the baron qualifies for the north to south bonus
+     */
+
+    public boolean hasNorthSouthPath(Baron baron) { return hasBoundaryPath(baron, NORTH | SOUTH); }
+
+    /**
+     * Returns the number of tracks in a baron's longest continuous railroad
+     *
+     * @param baron a baron
+     * @return length of the baron's longest continuous railroad
+     */
+
+    public int getLongestRailroad(Baron baron) {
+        LongestRailroad railroad = longestRailroads[baron.ordinal()];
+        return railroad == null ? 0 : railroad.getLongest();
+    }
+
+    /**
+     * Determines whether a component of a baron touches both given boundaries, and no
+     * single station or route joins them directly. Both are maintained as routes are
+     * claimed, so this is a constant time check. Paths only get shorter as routes are
+     * claimed, so once a shortcut exists the bonus can never be awarded.
+     *
+     * @param baron a baron
+     * @param pair flags of the two boundaries
+     * @return true if the boundaries are joined by a long enough path
+     */
+
+    private boolean hasBoundaryPath(Baron baron, int pair) {
+        int b = baron.ordinal();
+        return (joined[b] & pair) == pair && ((shortcuts[b] | stationShortcuts) & pair) == 0;
+    }
+
+    /**
+     * Creates the state of a baron the first time it claims a route
+     *
+     * @param b ordinal of the baron
+     */
+
+    private void createBaron(int b) {
+        int stationCount = boundaries.length;
+        owned[b] = new long[(routeLengths.length + 63) / 64];
+        components[b] = new DisjointSet(stationCount);
+        componentBoundaries[b] = boundaries.clone();
+        longestRailroads[b] = new LongestRailroad(routes);
+    }
+
+    /**
+     * The part of a network that never changes: the graph of every route in a map and the
+     * boundaries of its stations. A {@link MapTemplate} builds it once and every network
+     * of every game on the template shares it.
+     */
+
+    public static class Topology {
+
+        /**
+         * Graph of every route in the map, edge ids are route ids
+         */
+        private final CompactGraph routes;
+
+        /**
+         * Number of tracks in each route, indexed by route id
+         */
+        private final int[] routeLengths;
+
+        /**
+         * Boundary flags of each station, indexed by station id
+         */
+        private final byte[] boundaries;
+
+        /**
+         * Boundary pairs joined by a single station on both boundaries
+         */
+        private final byte stationShortcuts;
+
+        /**
+         * Builds the topology of a map
+         *
+         * @param stationIndices index of each station of the map
+         * @param routeList routes of the map, a route's id is its index in the list
+         * @param boundaryStations stations on each boundary of the map
+         */
+
+        public Topology(Map<Station, Integer> stationIndices, List<Route> routeList,
+                        Map<String, List<Station>> boundaryStations) {
+            routes = new CompactGraph(stationIndices.size());
+            routeLengths = new int[routeList.size()];
+            for (Route route: routeList) {
+                int id = routes.addEdge(stationIndices.get(route.getOrigin()),
+                        stationIndices.get(route.getDestination()));
+                routeLengths[id] = route.getLength();
+            }
+            routes.compact();
+
+            boundaries = new byte[stationIndices.size()];
+            markBoundary(stationIndices, boundaryStations.get("North"), NORTH);
+            markBoundary(stationIndices, boundaryStations.get("South"), SOUTH);
+            markBoundary(stationIndices, boundaryStations.get("East"), EAST);
+            markBoundary(stationIndices, boundaryStations.get("West"), WEST);
+            byte pairs = 0;
+            for (byte flags: boundaries) {
+                if ((flags & (WEST | EAST)) == (WEST | EAST)){
+                    pairs |= WEST | EAST;
+                }
+                if ((flags & (NORTH | SOUTH)) == (NORTH | SOUTH)){
+                    pairs |= NORTH | SOUTH;
+                }
+            }
+            stationShortcuts = pairs;
+        }
+
+        /**
+         * Flags every station on a boundary
+         *
+         * @param stationIndices index of each station of the map
+         * @param stations stations on the boundary
+         * @param flag flag of the boundary
+         */
+
+        private void markBoundary(Map<Station, Integer> stationIndices, List<Station> stations, int flag) {
+            for (Station station: stations) {
+                boundaries[stationIndices.get(station)] |= (byte) flag;
+            }
+        }
+    }
+}
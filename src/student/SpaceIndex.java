@@ -0,0 +1,221 @@
+package student;
+
+import model.Route;
+import model.Space;
+
+import java.util.*;
+
+/**
+ * Sparse storage for the spaces and routes of a RailroadBarons Map
+ * Only occupied locations are stored, in an open addressing hash table keyed by the
+ * row and column packed into a long, so very large sparse maps do not need a cell
+ * for every location
+ *
+ * @author Shannon Quinn
+ * @author Brennan Reed
+ */
+
+public class SpaceIndex {
+
+    /**
+     * key of an empty slot, rows and columns are never negative
+     */
+    private static final long EMPTY = -1L;
+
+    /**
+     * largest number of slots, the largest power of two an array can hold
+     */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * packed location of each slot
+     */
+    private long[] keys;
+
+    /**
+     * space at each slot's location
+     */
+    private Space[] spaces;
+
+    /**
+     * route with a track at each slot's location
+     */
+    private Route[] routes;
+
+    /**
+     * number of occupied slots
+     */
+    private int size;
+
+    /**
+     * creates instance of class
+     *
+     * @param expected number of locations expected to be stored
+     * @throws IllegalArgumentException If the table for that many locations would be too large
+     */
+
+    public SpaceIndex(int expected) {
+        if (expected > MAX_CAPACITY / 2){
+            throw new IllegalArgumentException("Too many locations for the index: " + expected);
+        }
+        int wanted = expected * 2;
+        allocate(wanted <= 16 ? 16 : Integer.highestOneBit(wanted - 1) << 1);
+    }
+
+    /**
+     * @return number of locations stored
+     */
+
+    public int size() { return size; }
+
+    /**
+     * Returns the space at a location
+     *
+     * @param row row of the location
+     * @param col column of the location
+     * @return the space, or null if nothing is stored at the location
+     */
+
+    public Space getSpace(int row, int col) {
+        int slot = find(pack(row, col));
+        return slot == -1 ? null : spaces[slot];
+    }
+
+    /**
+     * Returns the route with a track at a location
+     *
+     * @param row row of the location
+     * @param col column of the location
+     * @return the route, or null if no track is stored at the location
+     */
+
+    public Route getRoute(int row, int col) {
+        int slot = find(pack(row, col));
+        return slot == -1 ? null : routes[slot];
+    }
+
+    /**
+     * Stores the space at a location, replacing any space already there
+     *
+     * @param row row of the location
+     * @param col column of the location
+     * @param space the space
+     */
+
+    public void putSpace(int row, int col, Space space) { spaces[slotFor(pack(row, col))] = space; }
+
+    /**
+     * Stores the route with a track at a location, replacing any route already there
+     *
+     * @param row row of the location
+     * @param col column of the location
+     * @param route the route
+     */
+
+    public void putRoute(int row, int col, Route route) { routes[slotFor(pack(row, col))] = route; }
+
+    /**
+     * @param row row of a location
+     * @param col column of a location
+     * @return the location packed into a single key
+     */
+
+    private static long pack(int row, int col) { return ((long) row << 32) | (col & 0xFFFFFFFFL); }
+
+    /**
+     * @param key packed location
+     * @return the slot at which the search for the key starts
+     */
+
+    private int home(long key) {
+        key *= 0x9E3779B97F4A7C15L;
+        return (int) (key ^ (key >>> 32)) & (keys.length - 1);
+    }
+
+    /**
+     * Finds the slot holding a location
+     *
+     * @param key packed location
+     * @return the slot, or -1 if the location is not stored
+     */
+
+    private int find(long key) {
+        if (key < 0){
+            return -1;
+        }
+        int mask = keys.length - 1;
+        for (int slot = home(key); ; slot = (slot + 1) & mask) {
+            if (keys[slot] == key){
+                return slot;
+            }
+            if (keys[slot] == EMPTY){
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * Finds the slot holding a location, claiming an empty slot if it is not stored
+     *
+     * @param key packed location
+     * @return the slot
+     */
+
+    private int slotFor(long key) {
+        if (key < 0){
+            throw new IllegalArgumentException("Invalid location: " + (key >> 32) + ", " + (int) key);
+        }
+        if ((size + 1L) * 4 > keys.length * 3L){
+            grow();
+        }
+        int mask = keys.length - 1;
+        int slot = home(key);
+        while (keys[slot] != key && keys[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        if (keys[slot] == EMPTY){
+            keys[slot] = key;
+            size++;
+        }
+        return slot;
+    }
+
+    /**
+     * Doubles the number of slots, placing every stored location again
+     *
+     * @throws IllegalStateException If the index already has the most slots it can have
+     */
+
+    private void grow() {
+        if (keys.length == MAX_CAPACITY){
+            throw new IllegalStateException("The index cannot hold more locations.");
+        }
+        long[] oldKeys = keys;
+        Space[] oldSpaces = spaces;
+        Route[] oldRoutes = routes;
+        allocate(keys.length * 2);
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY){
+                int slot = home(oldKeys[i]);
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                spaces[slot] = oldSpaces[i];
+                routes[slot] = oldRoutes[i];
+            }
+        }
+    }
+
+    /**
+     * @param capacity number of slots, a power of two
+     */
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        spaces = new Space[capacity];
+        routes = new Route[capacity];
+    }
+}
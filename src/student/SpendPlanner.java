@@ -0,0 +1,228 @@
+package student;
+
+import model.Card;
+
+import java.util.Arrays;
+
+/**
+ * The cards in a player's hand, with the colors bucketed by how many of them are held
+ * Each count has a bitmask of the colors held that many times, and a bitmap marks the
+ * counts that have any color, so the cards a claim would spend are found from the next
+ * marked count without looking at the whole hand. Plans are ints that can be computed
+ * without changing the hand and spent later.
+ *
+ * @author Shannon Quinn
+ * @author Brennan Reed
+ */
+
+public class SpendPlanner {
+
+    /**
+     * Plan returned when the hand cannot pay for a claim
+     */
+    public static final int NO_PLAN = -1;
+
+    /**
+     * Every card, indexed by ordinal
+     */
+    private static final Card[] CARDS = Card.values();
+
+    /**
+     * Ordinal of the wild card
+     */
+    private static final int WILD = Card.WILD.ordinal();
+
+    /**
+     * Bitmask of the ordinals of every card but the wild card
+     */
+    private static final int NON_WILD = ((1 << CARDS.length) - 1) & ~(1 << WILD);
+
+    /**
+     * Number of each card held, indexed by ordinal
+     */
+    private final int[] counts;
+
+    /**
+     * Bitmask of the ordinals of the cards other than the wild card held each number of times
+     */
+    private int[] colorsByCount;
+
+    /**
+     * Bitmap of the counts that have at least one card
+     */
+    private long[] usedCounts;
+
+    /**
+     * creates instance of class with an empty hand
+     */
+
+    public SpendPlanner() {
+        counts = new int[CARDS.length];
+        colorsByCount = new int[64];
+        usedCounts = new long[1];
+        clear();
+    }
+
+    /**
+     * Empties the hand
+     */
+
+    public void clear() {
+        Arrays.fill(counts, 0);
+        Arrays.fill(colorsByCount, 0);
+        Arrays.fill(usedCounts, 0);
+        colorsByCount[0] = NON_WILD;
+        usedCounts[0] = 1;
+    }
+
+    /**
+     * @param card a card
+     * @return number of the card held
+     */
+
+    public int count(Card card) { return counts[card.ordinal()]; }
+
+    /**
+     * Adds a card to the hand
+     *
+     * @param card the card, not NONE
+     */
+
+    public void add(Card card) {
+        int ordinal = card.ordinal();
+        if (ordinal == WILD){
+            counts[WILD]++;
+        } else {
+            move(ordinal, counts[ordinal] + 1);
+        }
+    }
+
+    /**
+     * @return largest number of any card but the wild card held
+     */
+
+    public int getMaxNonWild() {
+        for (int word = usedCounts.length - 1; word >= 0; word--) {
+            if (usedCounts[word] != 0){
+                return word * 64 + 63 - Long.numberOfLeadingZeros(usedCounts[word]);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Chooses the cards to spend on a route without changing the hand, in order of preference:
+     * <ul>
+     * <li>a color held exactly as many times as the route is long</li>
+     * <li>the color held the fewest times that is enough, if fewer than the pieces remaining</li>
+     * <li>a color held one time fewer than the route is long, with a wild card if one is held</li>
+     * <li>the color held the fewest times that is enough</li>
+     * </ul>
+     * Among colors held equally often the one with the lowest ordinal is chosen.
+     *
+     * @param length length of the route
+     * @param piecesRemaining number of pieces the player has remaining
+     * @return the plan, or NO_PLAN if the hand cannot pay for the route
+     */
+
+    public int plan(int length, int piecesRemaining) {
+        int count = nextCount(length);
+        if (count != -1 && (count == length || count < piecesRemaining)){
+            return encode(Integer.numberOfTrailingZeros(colorsByCount[count]), length, 0);
+        }
+        if (counts[WILD] > 0 && length > 1 && length - 1 < colorsByCount.length && colorsByCount[length - 1] != 0){
+            return encode(Integer.numberOfTrailingZeros(colorsByCount[length - 1]), length - 1, 1);
+        }
+        if (count != -1){
+            return encode(Integer.numberOfTrailingZeros(colorsByCount[count]), length, 0);
+        }
+        return NO_PLAN;
+    }
+
+    /**
+     * Removes the cards of a plan from the hand
+     *
+     * @param plan a plan made for the hand as it is now
+     */
+
+    public void spend(int plan) {
+        int ordinal = plan & 0xFF;
+        move(ordinal, counts[ordinal] - getColorCards(plan));
+        counts[WILD] -= getWildCards(plan);
+    }
+
+    /**
+     * @param plan a plan other than NO_PLAN
+     * @return the color the plan spends
+     */
+
+    public static Card getColor(int plan) { return CARDS[plan & 0xFF]; }
+
+    /**
+     * @param plan a plan other than NO_PLAN
+     * @return number of cards of the color the plan spends
+     */
+
+    public static int getColorCards(int plan) { return (plan >>> 8) & 0xFFFF; }
+
+    /**
+     * @param plan a plan other than NO_PLAN
+     * @return number of wild cards the plan spends
+     */
+
+    public static int getWildCards(int plan) { return plan >>> 24; }
+
+    /**
+     * @param ordinal ordinal of the color
+     * @param colorCards number of cards of the color
+     * @param wildCards number of wild cards
+     * @return the plan
+     */
+
+    private static int encode(int ordinal, int colorCards, int wildCards) {
+        return ordinal | colorCards << 8 | wildCards << 24;
+    }
+
+    /**
+     * Changes the number of a card other than the wild card, moving it between buckets
+     *
+     * @param ordinal ordinal of the card
+     * @param count new number of the card
+     */
+
+    private void move(int ordinal, int count) {
+        int old = counts[ordinal];
+        counts[ordinal] = count;
+        colorsByCount[old] &= ~(1 << ordinal);
+        if (colorsByCount[old] == 0){
+            usedCounts[old >>> 6] &= ~(1L << old);
+        }
+        if (count >= colorsByCount.length){
+            colorsByCount = Arrays.copyOf(colorsByCount, Math.max(count + 1, colorsByCount.length * 2));
+            usedCounts = Arrays.copyOf(usedCounts, (colorsByCount.length + 63) >>> 6);
+        }
+        colorsByCount[count] |= 1 << ordinal;
+        usedCounts[count >>> 6] |= 1L << count;
+    }
+
+    /**
+     * @param from smallest count of interest
+     * @return smallest count at least from that some card other than the wild card is
+     * held, or -1 if there is none
+     */
+
+    private int nextCount(int from) {
+        int word = from >>> 6;
+        if (from < 0 || word >= usedCounts.length){
+            return -1;
+        }
+        long bits = usedCounts[word] & (-1L << from);
+        while (bits == 0) {
+            if (++word == usedCounts.length){
+                return -1;
+            }
+            bits = usedCounts[word];
+        }
+        return word * 64 + Long.numberOfTrailingZeros(bits);
+    }
+}
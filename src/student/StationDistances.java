@@ -0,0 +1,387 @@
+package student;
+
+import model.Route;
+import model.Station;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * All-pairs distances between the stations of a RailroadBarons Map, both in routes
+ * travelled (hops) and in tracks travelled, ignoring who has claimed each route
+ * Tables are computed once per {@linkplain MapTemplate template} and shared by all of its games
+ *
+ * @author Shannon Quinn
+ * @author Brennan Reed
+ */
+
+public class StationDistances {
+
+    /**
+     * Largest number of stations whose tables can be indexed by an int
+     */
+    public static final int MAX_STATIONS = 46340;
+
+    /**
+     * Entry of the hops table for stations that are not connected
+     */
+    private static final char UNREACHABLE = Character.MAX_VALUE;
+
+    /**
+     * Number of sources searched by a single fork-join task
+     */
+    private static final int SOURCES_PER_TASK = 16;
+
+    /**
+     * Names of the map boundaries, in the order of the boundary tables
+     */
+    private static final String[] BOUNDARIES = {"North", "South", "East", "West"};
+
+    /**
+     * number of stations in the map
+     */
+    private final int stationCount;
+
+    /**
+     * hops between each pair of stations, row major, -1 (UNREACHABLE in the larger table)
+     * if unreachable, only one of the two tables is used, depending on the number of stations
+     */
+    private final byte[] smallHops;
+    private final char[] hops;
+
+    /**
+     * tracks between each pair of stations, row major, -1 if unreachable
+     * saturates at Short.MAX_VALUE
+     */
+    private final short[] trackLengths;
+
+    /**
+     * hops and tracks from each station to the nearest station on each boundary
+     */
+    private final int[][] boundaryHops, boundaryTrackLengths;
+
+    /**
+     * Computes the distances for a map
+     *
+     * @param map the map
+     * @return the distances between the map's stations
+     * @throws IllegalArgumentException If the map has more than MAX_STATIONS stations
+     */
+
+    public static StationDistances forMap(MapTemplate map) { return new StationDistances(map); }
+
+    /**
+     * Creates the distance tables for a map using the common fork-join pool
+     *
+     * @param map the map
+     */
+
+    private StationDistances(MapTemplate map) {
+        stationCount = map.getStations().size();
+        if (stationCount > MAX_STATIONS){
+            throw new IllegalArgumentException("Distances can only be computed for maps of up to "
+                    + MAX_STATIONS + " stations, this map has " + stationCount + ".");
+        }
+        CompactGraph graph = new CompactGraph(stationCount);
+        int[] weights = new int[map.getRoutes().size()];
+        for (Route route: map.getRoutes()) {
+            int edge = graph.addEdge(map.getStationIndex(route.getOrigin()),
+                    map.getStationIndex(route.getDestination()));
+            weights[edge] = route.getLength();
+        }
+        graph.compact();
+
+        int cells = stationCount * stationCount;
+        if (stationCount <= Byte.MAX_VALUE){
+            smallHops = new byte[cells];
+            hops = null;
+        } else {
+            smallHops = null;
+            hops = new char[cells];
+        }
+        trackLengths = new short[cells];
+        ForkJoinPool.commonPool().invoke(new SourceTask(graph, weights, 0, stationCount));
+
+        boundaryHops = new int[BOUNDARIES.length][stationCount];
+        boundaryTrackLengths = new int[BOUNDARIES.length][stationCount];
+        for (int b = 0; b < BOUNDARIES.length; b++) {
+            Arrays.fill(boundaryHops[b], -1);
+            Arrays.fill(boundaryTrackLengths[b], -1);
+            for (Station boundary: map.getBoundaryStations().get(BOUNDARIES[b])) {
+                int target = map.getStationIndex(boundary);
+                for (int station = 0; station < stationCount; station++) {
+                    boundaryHops[b][station] = closer(boundaryHops[b][station], getHops(station, target));
+                    boundaryTrackLengths[b][station] = closer(boundaryTrackLengths[b][station],
+                            getTrackLength(station, target));
+                }
+            }
+        }
+    }
+
+    /**
+     * @return number of stations in the map
+     */
+
+    public int getStationCount() { return stationCount; }
+
+    /**
+     * Returns the fewest routes needed to travel between two stations
+     *
+     * @param from index of the first station in the map
+     * @param to index of the second station in the map
+     * @return number of routes, or -1 if the stations are not connected
+     */
+
+    public int getHops(int from, int to) {
+        int cell = from * stationCount + to;
+        if (smallHops != null){
+            return smallHops[cell];
+        }
+        return hops[cell] == UNREACHABLE ? -1 : hops[cell];
+    }
+
+    /**
+     * Returns the fewest tracks needed to travel between two stations
+     *
+     * @param from index of the first station in the map
+     * @param to index of the second station in the map
+     * @return number of tracks, or -1 if the stations are not connected
+     */
+
+    public int getTrackLength(int from, int to) { return trackLengths[from * stationCount + to]; }
+
+    /**
+     * Returns the fewest routes needed to reach any station on a boundary of the map
+     *
+     * @param station index of the station in the map
+     * @param boundary "North", "South", "East" or "West"
+     * @return number of routes, or -1 if no station on the boundary is connected
+     */
+
+    public int getHopsToBoundary(int station, String boundary) {
+        return boundaryHops[boundaryIndex(boundary)][station];
+    }
+
+    /**
+     * Returns the fewest tracks needed to reach any station on a boundary of the map
+     *
+     * @param station index of the station in the map
+     * @param boundary "North", "South", "East" or "West"
+     * @return number of tracks, or -1 if no station on the boundary is connected
+     */
+
+    public int getTrackLengthToBoundary(int station, String boundary) {
+        return boundaryTrackLengths[boundaryIndex(boundary)][station];
+    }
+
+    /**
+     * @param boundary name of a boundary
+     * @return index of the boundary's tables
+     */
+
+    private static int boundaryIndex(String boundary) {
+        for (int b = 0; b < BOUNDARIES.length; b++) {
+            if (BOUNDARIES[b].equals(boundary)){
+                return b;
+            }
+        }
+        throw new IllegalArgumentException("Unknown boundary: " + boundary);
+    }
+
+    /**
+     * @param current current distance, -1 if unreachable
+     * @param candidate candidate distance, -1 if unreachable
+     * @return the shorter of the reachable distances
+     */
+
+    private static int closer(int current, int candidate) {
+        if (candidate == -1){
+            return current;
+        }
+        return current == -1 ? candidate : Math.min(current, candidate);
+    }
+
+    /**
+     * Fills the rows of the tables for a range of source stations, splitting the range
+     * between fork-join workers
+     */
+
+    private class SourceTask extends RecursiveAction {
+
+        /**
+         * version of the serialized form
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * graph of every route in the map
+         */
+        private final CompactGraph graph;
+
+        /**
+         * tracks in each route, indexed by edge id
+         */
+        private final int[] weights;
+
+        /**
+         * first source and the source after the last
+         */
+        private final int low, high;
+
+        /**
+         * creates instance of class
+         *
+         * @param graph graph of every route in the map
+         * @param weights tracks in each route, indexed by edge id
+         * @param low first source station
+         * @param high source station after the last
+         */
+
+        SourceTask(CompactGraph graph, int[] weights, int low, int high) {
+            this.graph = graph;
+            this.weights = weights;
+            this.low = low;
+            this.high = high;
+        }
+
+        /**
+         * Searches from every source in the range, or splits the range in two
+         */
+
+        @Override
+        protected void compute() {
+            if (high - low > SOURCES_PER_TASK){
+                int middle = (low + high) >>> 1;
+                invokeAll(new SourceTask(graph, weights, low, middle),
+                        new SourceTask(graph, weights, middle, high));
+                return;
+            }
+            int[] distance = new int[stationCount];
+            int[] queue = new int[stationCount];
+            long[] heap = new long[Math.max(1, graph.getEdgeCount() * 2 + 1)];
+            int[] incident = new int[16];
+            for (int source = low; source < high; source++) {
+                int row = source * stationCount;
+
+                // breadth first search for hops
+                Arrays.fill(distance, -1);
+                distance[source] = 0;
+                queue[0] = source;
+                for (int head = 0, tail = 1; head < tail; head++) {
+                    int vertex = queue[head];
+                    incident = edgesOf(vertex, incident);
+                    for (int k = 0, degree = graph.degree(vertex); k < degree; k++) {
+                        int neighbor = opposite(incident[k], vertex);
+                        if (distance[neighbor] == -1){
+                            distance[neighbor] = distance[vertex] + 1;
+                            queue[tail++] = neighbor;
+                        }
+                    }
+                }
+                for (int station = 0; station < stationCount; station++) {
+                    if (smallHops != null){
+                        smallHops[row + station] = (byte) distance[station];
+                    } else {
+                        hops[row + station] = distance[station] == -1 ? UNREACHABLE : (char) distance[station];
+                    }
+                }
+
+                // Dijkstra's algorithm for tracks, heap entries are (distance << 32 | station)
+                Arrays.fill(distance, -1);
+                int size = 0;
+                heap[size++] = source;
+                while (size > 0) {
+                    long top = heap[0];
+                    heap[0] = heap[--size];
+                    siftDown(heap, size);
+                    int vertex = (int) top;
+                    int length = (int) (top >>> 32);
+                    if (distance[vertex] != -1){
+                        continue;
+                    }
+                    distance[vertex] = length;
+                    incident = edgesOf(vertex, incident);
+                    for (int k = 0, degree = graph.degree(vertex); k < degree; k++) {
+                        int neighbor = opposite(incident[k], vertex);
+                        if (distance[neighbor] == -1){
+                            heap[size] = ((long) (length + weights[incident[k]]) << 32) | neighbor;
+                            siftUp(heap, size++);
+                        }
+                    }
+                }
+                for (int station = 0; station < stationCount; station++) {
+                    trackLengths[row + station] = (short) Math.min(distance[station], Short.MAX_VALUE);
+                }
+            }
+        }
+
+        /**
+         * @param vertex a station
+         * @param incident buffer for the edges
+         * @return a buffer holding the edges of the station
+         */
+
+        private int[] edgesOf(int vertex, int[] incident) {
+            if (graph.degree(vertex) > incident.length){
+                incident = new int[graph.degree(vertex)];
+            }
+            graph.incidentEdges(vertex, incident);
+            return incident;
+        }
+
+        /**
+         * @param edge id of an edge
+         * @param vertex one endpoint of the edge
+         * @return the other endpoint of the edge
+         */
+
+        private int opposite(int edge, int vertex) {
+            int source = graph.getEdgeSource(edge);
+            return source == vertex ? graph.getEdgeTarget(edge) : source;
+        }
+    }
+
+    /**
+     * Restores the heap order after an entry was added at the given index
+     *
+     * @param heap binary min-heap
+     * @param index index of the new entry
+     */
+
+    private static void siftUp(long[] heap, int index) {
+        long entry = heap[index];
+        while (index > 0 && heap[(index - 1) / 2] > entry) {
+            heap[index] = heap[(index - 1) / 2];
+            index = (index - 1) / 2;
+        }
+        heap[index] = entry;
+    }
+
+    /**
+     * Restores the heap order after the root was replaced
+     *
+     * @param heap binary min-heap
+     * @param size number of entries in the heap
+     */
+
+    private static void siftDown(long[] heap, int size) {
+        if (size == 0){
+            return;
+        }
+        long entry = heap[0];
+        int index = 0;
+        while (index * 2 + 1 < size) {
+            int child = index * 2 + 1;
+            if (child + 1 < size && heap[child + 1] < heap[child]){
+                child++;
+            }
+            if (heap[child] >= entry){
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = entry;
+    }
+}
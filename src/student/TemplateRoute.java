@@ -0,0 +1,129 @@
+package student;
+
+import model.*;
+
+import java.util.List;
+
+/**
+ * A route of a {@link MapTemplate}
+ * Templates are shared by every game played on them, so their routes are read only: the
+ * owner is the one the route was loaded with and the route can never be claimed. Games
+ * claim their own {@link GameRoute} instead.
+ *
+ * @author Shannon Quinn
+ * @author Brennan Reed
+ */
+
+public class TemplateRoute implements Route {
+
+    /**
+     * The route the template was created from
+     */
+    private final Route route;
+
+    /**
+     * Index of the route in the template
+     */
+    private final int id;
+
+    /**
+     * The owner of the route when the template was created
+     */
+    private final Baron baron;
+
+    /**
+     * Tracks of this route, each created when first requested
+     */
+    private final List<Track> tracks;
+
+    /**
+     * Creates a read only copy of a route
+     *
+     * @param route The route the template was created from
+     * @param id Index of the route in the template
+     */
+
+    public TemplateRoute(Route route, int id) {
+        this.route = route;
+        this.id = id;
+        baron = route.getBaron();
+        tracks = new TrackList(this);
+    }
+
+    /**
+     * @return Index of the route in the template
+     */
+
+    public int getId() { return id; }
+
+    /**
+     * @return The {@link Baron} that owned this route when the template was created.
+     */
+
+    @Override
+    public Baron getBaron() { return baron; }
+
+    /**
+     * @return The {@link Station} at the beginning of this route.
+     */
+
+    @Override
+    public Station getOrigin() { return route.getOrigin(); }
+
+    /**
+     * @return The {@link Station} at the end of this route.
+     */
+
+    @Override
+    public Station getDestination() { return route.getDestination(); }
+
+    /**
+     * @return The {@link Orientation} of this route.
+     */
+
+    @Override
+    public Orientation getOrientation() { return route.getOrientation(); }
+
+    /**
+     * @return The {@link List} of {@link Track Tracks} that make up this route.
+     */
+
+    @Override
+    public List<Track> getTracks() { return tracks; }
+
+    /**
+     * @return The number of {@link Track Tracks} comprising this route.
+     */
+
+    @Override
+    public int getLength() { return route.getLength(); }
+
+    /**
+     * @return The number of points that this route is worth.
+     */
+
+    @Override
+    public int getPointValue() { return route.getPointValue(); }
+
+    /**
+     * @param space The {@link Space} that may be in this route.
+     * @return True if the {@link Space Space's} coordinates are a part of this route,
+     * and false otherwise.
+     */
+
+    @Override
+    public boolean includesCoordinate(Space space) { return route.includesCoordinate(space); }
+
+    /**
+     * Routes of a template are never claimed, routes are claimed in the map of a game
+     *
+     * @param claimant The {@link Baron} attempting to claim the route.
+     * @return never returns
+     * @throws UnsupportedOperationException always
+     */
+
+    @Override
+    public boolean claim(Baron claimant) {
+        throw new UnsupportedOperationException("Routes of a map template cannot be claimed.");
+    }
+}
@@ -0,0 +1,93 @@
+package student;
+
+import model.Orientation;
+import model.Route;
+import model.Station;
+import model.Track;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * The tracks of a route, created only when they are requested
+ * A route's tracks are determined by its origin, orientation and length, so each track
+ * is made from its offset the first time it is requested and then kept, and routes whose
+ * tracks are never looked at, such as in games that are not drawn, never create them
+ *
+ * @author Shannon Quinn
+ * @author Brennan Reed
+ */
+
+public class TrackList extends AbstractList<Track> implements RandomAccess {
+
+    /**
+     * The route the tracks belong to
+     */
+    private final Route route;
+
+    /**
+     * Tracks created so far by offset, null until the first is requested
+     */
+    private Track[] tracks;
+
+    /**
+     * creates instance of class
+     *
+     * @param route The route the tracks belong to
+     */
+
+    public TrackList(Route route) { this.route = route; }
+
+    /**
+     * @param index offset of the track from the origin, starting at 0
+     * @return The track at the offset
+     */
+
+    @Override
+    public Track get(int index) {
+        if (index < 0 || index >= route.getLength()){
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + route.getLength());
+        }
+        if (tracks == null){
+            tracks = new Track[route.getLength()];
+        }
+        Track track = tracks[index];
+        if (track == null){
+            Station origin = route.getOrigin();
+            if (route.getOrientation() == Orientation.HORIZONTAL){
+                track = new TrackImplementation(route, origin.getRow(), origin.getCol() + index + 1);
+            } else {
+                track = new TrackImplementation(route, origin.getRow() + index + 1, origin.getCol());
+            }
+            tracks[index] = track;
+        }
+        return track;
+    }
+
+    /**
+     * @return The number of tracks in the route
+     */
+
+    @Override
+    public int size() { return route.getLength(); }
+
+    /**
+     * Finds the offset of the track of a route at a location
+     *
+     * @param route a route
+     * @param row row of the location
+     * @param col column of the location
+     * @return offset of the track at the location, or -1 if the route has no track there
+     */
+
+    public static int offsetOf(Route route, int row, int col) {
+        Station origin = route.getOrigin();
+        int offset;
+        if (route.getOrientation() == Orientation.HORIZONTAL){
+            offset = row == origin.getRow() ? col - origin.getCol() - 1 : -1;
+        } else {
+            offset = col == origin.getCol() ? row - origin.getRow() - 1 : -1;
+        }
+        return offset >= 0 && offset < route.getLength() ? offset : -1;
+    }
+}
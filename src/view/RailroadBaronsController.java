@@ -3,9 +3,6 @@ package view;
 import javafx.scene.control.Alert;
 import model.*;
 
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.io.InputStream;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 
@@ -187,19 +184,13 @@ public class RailroadBaronsController implements RailroadMapObserver,
                     "MapMaker has not been configured!");
         }
 
-        try(InputStream in = new FileInputStream(path)) {
-            RailroadMap map = mapMaker.readMap(in);
-            console.write("Loaded map '" + path + "'!");
-            map.addObserver(this);
-            game.startAGameWith(map);
-            railroadMapPane.setRailroadMap(map);
-            playerControl.setNumberOfCardsRemaining(
-                    game.numberOfCardsRemaining());
-        }
-        catch(IOException ioe) {
-            throw new RailroadBaronsException("Failed to load map: " +
-                    ioe.getMessage());
-        }
+        RailroadMap map = mapMaker.readMap(path);
+        console.write("Loaded map '" + path + "'!");
+        map.addObserver(this);
+        game.startAGameWith(map);
+        railroadMapPane.setRailroadMap(map);
+        playerControl.setNumberOfCardsRemaining(
+                game.numberOfCardsRemaining());
     }
 
     /**
@@ -0,0 +1,36 @@
+package student;
+
+import model.RailroadBaronsException;
+import model.RailroadMap;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * tests for BinaryMapFormat
+ * @author Shannon & Brennan
+ */
+class BinaryMapFormatTest {
+
+    /**
+     * tests that a map written in the binary format reads back the same
+     */
+    @Test
+    public void roundTrip() throws RailroadBaronsException {
+        String text = "0 1 2 Rochester\n1 1 6 Buffalo\n2 4 2 Rochester\n##ROUTES##\n0 1 UNCLAIMED\n0 2 RED\n";
+        RailroadMap map = new MapMakerImplementation().readMap(new ByteArrayInputStream(text.getBytes()));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryMapFormat.write(map, out);
+
+        RailroadMap copy = BinaryMapFormat.read(ByteBuffer.wrap(out.toByteArray()));
+        assertEquals("The copy should have 2 routes!", 2, copy.getRoutes().size());
+        assertEquals("The route should have 3 tracks!", 3, copy.getRoute(1, 4).getLength());
+        assertEquals("The route should be claimed by red!", model.Baron.RED, copy.getRoute(3, 2).getBaron());
+        assertEquals("The station should keep its name!", "Rochester",
+                ((model.Station) copy.getSpace(4, 2)).getName());
+    }
+}
@@ -0,0 +1,107 @@
+package student;
+
+import model.Baron;
+import model.Player;
+import model.RailroadBaronsException;
+import model.Route;
+import model.Station;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.*;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * tests for ClaimJournal
+ * @author Shannon & Brennan
+ */
+class ClaimJournalTest {
+
+    /**
+     * @return a map with two routes
+     */
+    private RailroadMapImplementation map() {
+        Station first = new StationImplementation(0, 0, 0, "A");
+        Station second = new StationImplementation(1, 0, 4, "B");
+        Station third = new StationImplementation(2, 3, 0, "C");
+        Set<Route> routes = new LinkedHashSet<>();
+        routes.add(new RouteImplementation(first, second, Baron.UNCLAIMED));
+        routes.add(new RouteImplementation(first, third, Baron.UNCLAIMED));
+        return new RailroadMapImplementation(routes, Arrays.asList(first, second, third));
+    }
+
+    /**
+     * tests that replaying a journal restores the claims of the game
+     */
+    @Test
+    public void replay() throws IOException, RailroadBaronsException {
+        RailroadMapImplementation map = map();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ClaimJournal journal = new ClaimJournal(out, map.getTemplate());
+        map.addObserver(journal);
+        journal.turnStarted(null, null);
+        Route route = map.getRouteList().get(1);
+        route.claim(Baron.GREEN);
+        map.routeClaimed(route);
+
+        RailroadMapImplementation copy = ClaimJournal.replay(ByteBuffer.wrap(out.toByteArray()), map.getTemplate());
+        assertEquals("The route should be claimed by green!", Baron.GREEN, copy.getRouteList().get(1).getBaron());
+        assertEquals("The other route should be unclaimed!", Baron.UNCLAIMED, copy.getRouteList().get(0).getBaron());
+        assertEquals("The claim should take 3 bytes!", 23, out.size());
+    }
+
+    /**
+     * tests that a game started on a replayed map keeps the replayed owners, while its
+     * players start without routes, points or a railroad
+     */
+    @Test
+    public void startGame() throws IOException, RailroadBaronsException {
+        RailroadMapImplementation map = map();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ClaimJournal journal = new ClaimJournal(out, map.getTemplate());
+        map.addObserver(journal);
+        journal.turnStarted(null, null);
+        Route route = map.getRouteList().get(0);
+        route.claim(Baron.RED);
+        map.routeClaimed(route);
+
+        RailroadMapImplementation copy = ClaimJournal.replay(ByteBuffer.wrap(out.toByteArray()), map.getTemplate());
+        RailroadBaronsImplementation game = new RailroadBaronsImplementation();
+        game.startAGameWith(copy);
+        Route replayed = copy.getRouteList().get(0);
+        assertEquals("The replayed route should stay claimed by red!", Baron.RED, replayed.getBaron());
+        assertEquals("The replayed route should not be claimed again!", false,
+                replayed.claim(Baron.BLUE));
+        assertEquals("The network should start without railroads!", 0,
+                copy.getRouteNetwork().getLongestRailroad(Baron.RED));
+        for (Player player: game.getPlayers()) {
+            assertEquals("Players should start without points!", 0, player.getScore());
+            assertEquals("Players should start without routes!", 0, player.getClaimedRoutes().size());
+            assertEquals("Players should start with every piece!", 45, player.getNumberOfPieces());
+        }
+    }
+
+    /**
+     * tests that a journal cannot be replayed onto another map
+     */
+    @Test
+    public void otherMap() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new ClaimJournal(out, map().getTemplate());
+        Station first = new StationImplementation(0, 0, 0, "A");
+        Station second = new StationImplementation(1, 0, 5, "B");
+        RailroadMapImplementation other = new RailroadMapImplementation(
+                new HashSet<>(Collections.singletonList(new RouteImplementation(first, second, Baron.UNCLAIMED))),
+                Arrays.asList(first, second));
+        String message = null;
+        try {
+            ClaimJournal.replay(ByteBuffer.wrap(out.toByteArray()), other.getTemplate());
+        } catch (RailroadBaronsException e) {
+            message = e.getMessage();
+        }
+        assertEquals("The journal should be rejected!", "The journal belongs to a different map.", message);
+    }
+}
@@ -0,0 +1,73 @@
+package student;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * tests for CompactGraph
+ * @author Shannon & Brennan
+ */
+class CompactGraphTest {
+
+    /**
+     * tests that neighbors and edges are found in the append buffer, after compaction,
+     * and when a vertex has some of each
+     */
+    @Test
+    public void neighbors() {
+        CompactGraph graph = new CompactGraph(4);
+        int first = graph.addEdge(0, 1);
+        graph.addEdge(0, 2);
+        assertEquals("Wrong neighbors before compaction!", "[1, 2]", neighborsOf(graph, 0));
+        assertEquals("Wrong neighbors of the other end!", "[0]", neighborsOf(graph, 2));
+
+        graph.compact();
+        assertEquals("Wrong neighbors after compaction!", "[1, 2]", neighborsOf(graph, 0));
+        int third = graph.addEdge(3, 0);
+        assertEquals("Wrong neighbors after appending to a compacted graph!", "[1, 2, 3]", neighborsOf(graph, 0));
+        assertEquals("Wrong degree!", 3, graph.degree(0));
+
+        int[] edges = new int[graph.degree(0)];
+        graph.incidentEdges(0, edges);
+        Arrays.sort(edges);
+        assertEquals("Wrong incident edges!", "[" + first + ", 1, " + third + "]", Arrays.toString(edges));
+        assertEquals("Wrong edge source!", 3, graph.getEdgeSource(third));
+        assertEquals("Wrong edge target!", 0, graph.getEdgeTarget(third));
+
+        graph.compact();
+        assertEquals("Wrong neighbors after the second compaction!", "[1, 2, 3]", neighborsOf(graph, 0));
+        assertEquals("Wrong neighbors of a vertex with one edge!", "[0]", neighborsOf(graph, 3));
+        assertEquals("Wrong number of edges!", 3, graph.getEdgeCount());
+    }
+
+    /**
+     * tests that vertices added later can be connected, and that adding many edges
+     * compacts the graph without losing any
+     */
+    @Test
+    public void growth() {
+        CompactGraph graph = new CompactGraph(1);
+        for (int i = 1; i < 200; i++) {
+            assertEquals("Wrong id for the new vertex!", i, graph.addVertex());
+            graph.addEdge(i - 1, i);
+        }
+        assertEquals("Wrong number of vertices!", 200, graph.getVertexCount());
+        assertEquals("Wrong neighbors in the middle of the chain!", "[99, 101]", neighborsOf(graph, 100));
+        assertEquals("Wrong neighbors at the end of the chain!", "[198]", neighborsOf(graph, 199));
+    }
+
+    /**
+     * @param graph a graph
+     * @param vertex id of a vertex
+     * @return the sorted neighbors of the vertex
+     */
+    private static String neighborsOf(CompactGraph graph, int vertex) {
+        int[] neighbors = new int[graph.degree(vertex)];
+        graph.neighbors(vertex, neighbors);
+        Arrays.sort(neighbors);
+        return Arrays.toString(neighbors);
+    }
+}
@@ -0,0 +1,45 @@
+package student;
+
+import model.Card;
+import model.Deck;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * tests for CountingDeck
+ * @author Shannon & Brennan
+ */
+class CountingDeckTest {
+
+    /**
+     * tests that drawing a card lowers the count of its color
+     */
+    @Test
+    public void remaining() {
+        CountingDeck deck = new CountingDeck(3);
+        assertEquals("Wrong initial deck size!", 180, deck.numberOfCardsRemaining());
+        Card card = deck.drawACard();
+        assertEquals("Wrong count after draw!", 19, deck.remaining(card));
+        assertEquals("Wrong size deck after draw!", 179, deck.numberOfCardsRemaining());
+        deck.reset();
+        assertEquals("Count not restored by reset!", 20, deck.remaining(card));
+    }
+
+    /**
+     * tests that every card of an enlarged deck is dealt exactly once
+     */
+    @Test
+    public void drawAll() {
+        Deck deck = new CountingDeck(50, new SplittableRandom(3));
+        int[] counts = new int[Card.values().length];
+        for (int i = 0; i < 450; i++) {
+            counts[deck.drawACard().ordinal()]++;
+        }
+        assertEquals("Wrong number of wild cards!", 50, counts[Card.WILD.ordinal()]);
+        assertEquals("Wrong number of red cards!", 50, counts[Card.RED.ordinal()]);
+        assertEquals("Empty deck should draw none!", Card.NONE, deck.drawACard());
+    }
+}
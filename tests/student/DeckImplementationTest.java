@@ -1,5 +1,6 @@
 package student;
 
+import model.Card;
 import model.Deck;
 import org.junit.jupiter.api.Test;
 import static org.junit.Assert.assertEquals;
@@ -53,5 +54,51 @@ class DeckImplementationTest {
                 deck.numberOfCardsRemaining());
     }
 
-}
+    /**
+     * tests that decks with the same seed deal the same cards
+     */
+    @Test
+    public void seeded() {
+        Deck deck1 = new DeckImplementation(7);
+        Deck deck2 = new DeckImplementation(7);
+
+        assertEquals("Seeded decks are not equal!", true, deck1.equals(deck2));
+        deck1.reset();
+        deck2.reset();
+        assertEquals("Reset seeded decks are not equal!", true, deck1.equals(deck2));
+    }
+
+    /**
+     * tests that drawing several cards matches drawing them one at a time
+     */
+    @Test
+    public void drawCards() {
+        Deck deck1 = new DeckImplementation(7);
+        Deck deck2 = new DeckImplementation(7);
+        Card[] cards = new Card[179];
 
+        assertEquals("Wrong number of cards drawn!", 179, deck1.drawCards(179, cards));
+        for (Card card: cards) {
+            assertEquals("Cards drawn in a different order!", deck2.drawACard(), card);
+        }
+        assertEquals("Wrong number of cards drawn from nearly empty deck!", 1, deck1.drawCards(2, cards));
+        assertEquals("Empty deck should draw none!", Card.NONE, cards[1]);
+    }
+
+    /**
+     * tests that comparing decks does not draw their cards and follows the draws
+     */
+    @Test
+    public void fingerprint() {
+        DeckImplementation deck1 = new DeckImplementation(11);
+        DeckImplementation deck2 = new DeckImplementation(11);
+
+        deck1.drawACard();
+        assertEquals("Decks with different cards left are equal!", false, deck1.equals(deck2));
+        deck2.drawCards(1, new Card[1]);
+        assertEquals("Decks with the same cards left are not equal!", true, deck1.equals(deck2));
+        assertEquals("Equal decks have different hash codes!", deck1.hashCode(), deck2.hashCode());
+        assertEquals("Comparing decks drew cards!", 179, deck1.numberOfCardsRemaining());
+    }
+
+}
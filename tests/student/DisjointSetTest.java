@@ -0,0 +1,27 @@
+package student;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * tests for DisjointSet
+ * @author Shannon & Brennan
+ */
+class DisjointSetTest {
+
+    /**
+     * tests that elements are only connected after a union joins their sets
+     */
+    @Test
+    public void connected() {
+        DisjointSet sets = new DisjointSet(40);
+        assertEquals("These stations shouldn't be connected!", false, sets.connected(0, 1));
+
+        for (int i = 0; i < 19; i++) {
+            sets.union(i, i + 1);
+        }
+        assertEquals("These stations should be connected!", true, sets.connected(0, 19));
+        assertEquals("These stations shouldn't be connected!", false, sets.connected(0, 20));
+        assertEquals("Union should return the shared root!", sets.find(19), sets.union(5, 12));
+    }
+}
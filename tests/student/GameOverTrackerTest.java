@@ -0,0 +1,141 @@
+package student;
+
+import model.Baron;
+import model.Card;
+import model.Player;
+import model.Route;
+import model.Station;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * tests for GameOverTracker
+ * @author Shannon & Brennan
+ */
+class GameOverTrackerTest {
+
+    /**
+     * A route of 2 tracks along the top of the map and a longer route below it
+     *
+     * @param length number of tracks in the longer route
+     * @return the map
+     */
+    private static RailroadMapImplementation createMap(int length) {
+        Station a = new StationImplementation(0, 0, 0, "A");
+        Station b = new StationImplementation(1, 0, 3, "B");
+        Station c = new StationImplementation(2, 2, 0, "C");
+        Station d = new StationImplementation(3, 2, length + 1, "D");
+        Set<Route> routes = new LinkedHashSet<>();
+        routes.add(new RouteImplementation(a, b, Baron.UNCLAIMED));
+        routes.add(new RouteImplementation(c, d, Baron.UNCLAIMED));
+        return new RailroadMapImplementation(routes, Arrays.asList(a, b, c, d));
+    }
+
+    /**
+     * @param baron the player's baron
+     * @param map the map the player plays on
+     * @param dealt cards dealt to the player
+     * @return a player ready to play on the map
+     */
+    private static PlayerImplementation createPlayer(Baron baron, RailroadMapImplementation map, Card... dealt) {
+        PlayerImplementation player = new PlayerImplementation(baron);
+        player.addBoardSize(map.getRows(), map.getCols());
+        player.addRouteNetwork(map.getRouteNetwork());
+        player.reset(dealt);
+        return player;
+    }
+
+    /**
+     * tests that the game is over once every route has been claimed
+     */
+    @Test
+    public void allRoutesClaimed() throws Exception {
+        RailroadMapImplementation map = createMap(40);
+        Card[] dealt = new Card[42];
+        Arrays.fill(dealt, Card.BLUE);
+        PlayerImplementation player = createPlayer(Baron.RED, map, dealt);
+        GameOverTracker tracker = new GameOverTracker(Collections.singletonList(player));
+        tracker.startGame(map);
+        assertEquals("The game should not be over at the start!", false, tracker.isGameOver());
+
+        Route shortRoute = map.getRoute(0, 1);
+        player.claimRoute(shortRoute);
+        map.routeClaimed(shortRoute);
+        assertEquals("A route is still unclaimed!", false, tracker.isGameOver());
+
+        Route longRoute = map.getRoute(2, 1);
+        player.claimRoute(longRoute);
+        map.routeClaimed(longRoute);
+        assertEquals("The player should still have pieces!", 3, player.getNumberOfPieces());
+        assertEquals("Every route is claimed!", true, tracker.isGameOver());
+    }
+
+    /**
+     * tests that a route reported twice, or reported while still unclaimed, is only
+     * counted once it has been claimed
+     */
+    @Test
+    public void repeatedNotification() throws Exception {
+        RailroadMapImplementation map = createMap(40);
+        Card[] dealt = new Card[2];
+        Arrays.fill(dealt, Card.BLUE);
+        PlayerImplementation player = createPlayer(Baron.RED, map, dealt);
+        GameOverTracker tracker = new GameOverTracker(Collections.singletonList(player));
+        tracker.startGame(map);
+
+        Route longRoute = map.getRoute(2, 1);
+        map.routeClaimed(longRoute);
+        assertEquals("An unclaimed route should stay unclaimed!", 2, map.countUnclaimedRoutes());
+
+        Route shortRoute = map.getRoute(0, 1);
+        player.claimRoute(shortRoute);
+        map.routeClaimed(shortRoute);
+        map.routeClaimed(shortRoute);
+        assertEquals("The route should only be counted once!", 1, map.countUnclaimedRoutes());
+    }
+
+    /**
+     * tests that the game is over when no player has the cards to claim a route and
+     * the deck is empty, and continues once a player is dealt cards
+     */
+    @Test
+    public void noPlayerCanClaim() {
+        RailroadMapImplementation map = createMap(44);
+        PlayerImplementation red = createPlayer(Baron.RED, map);
+        PlayerImplementation blue = createPlayer(Baron.BLUE, map, Card.GREEN);
+        List<Player> players = Arrays.asList(red, blue);
+        GameOverTracker tracker = new GameOverTracker(players);
+        tracker.startGame(map);
+        assertEquals("No player can claim a route!", true, tracker.isGameOver());
+
+        blue.startTurn(new PairImplementation(Card.GREEN, Card.NONE));
+        assertEquals("Blue can claim a route!", false, tracker.isGameOver());
+        blue.startTurn(new PairImplementation(Card.NONE, Card.NONE));
+        assertEquals("Blue still holds enough cards!", false, tracker.isGameOver());
+    }
+
+    /**
+     * tests that the game is over when the only player has fewer pieces than the
+     * shortest unclaimed route
+     */
+    @Test
+    public void outOfPieces() throws Exception {
+        RailroadMapImplementation map = createMap(44);
+        Card[] dealt = new Card[44];
+        Arrays.fill(dealt, Card.ORANGE);
+        PlayerImplementation player = createPlayer(Baron.RED, map, dealt);
+        GameOverTracker tracker = new GameOverTracker(Collections.singletonList(player));
+        tracker.startGame(map);
+        player.startTurn(new PairImplementation(Card.PINK, Card.PINK));
+        assertEquals("The game should not be over at the start!", false, tracker.isGameOver());
+
+        Route longRoute = map.getRoute(2, 1);
+        player.claimRoute(longRoute);
+        map.routeClaimed(longRoute);
+        assertEquals("Only one piece should remain!", 1, player.getNumberOfPieces());
+        assertEquals("The player has too few pieces for the last route!", true, tracker.isGameOver());
+    }
+}
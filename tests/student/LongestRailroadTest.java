@@ -0,0 +1,85 @@
+package student;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * tests for LongestRailroad
+ * @author Shannon & Brennan
+ */
+class LongestRailroadTest {
+
+    /**
+     * tests a railroad with a branch, where the longest path must skip the short branch
+     */
+    @Test
+    public void branchTest() {
+        CompactGraph graph = new CompactGraph(5);
+        LongestRailroad railroad = new LongestRailroad(graph);
+        railroad.edgeAdded(graph.addEdge(0, 1), 3);
+        railroad.edgeAdded(graph.addEdge(1, 2), 4);
+        railroad.edgeAdded(graph.addEdge(1, 3), 1);
+        assertEquals("Wrong longest railroad!", 7, railroad.getLongest());
+
+        railroad.edgeAdded(graph.addEdge(3, 4), 5);
+        assertEquals("Wrong longest railroad!", 10, railroad.getLongest());
+    }
+
+    /**
+     * tests a loop, where the longest path may not reuse a station
+     */
+    @Test
+    public void loopTest() {
+        CompactGraph graph = new CompactGraph(4);
+        LongestRailroad railroad = new LongestRailroad(graph);
+        railroad.edgeAdded(graph.addEdge(0, 1), 2);
+        railroad.edgeAdded(graph.addEdge(1, 2), 2);
+        railroad.edgeAdded(graph.addEdge(2, 3), 2);
+        railroad.edgeAdded(graph.addEdge(3, 0), 6);
+        assertEquals("Wrong longest railroad!", 10, railroad.getLongest());
+    }
+
+    /**
+     * tests grid cores that are searched with the memo table and with the bounded
+     * search, each claim searching the whole component again, and that both finish quickly
+     */
+    @Test
+    public void denseCoreTest() {
+        long start = System.nanoTime();
+        assertEquals("Wrong longest railroad on a 4x4 grid!", 15, grid(4, 4));
+        assertEquals("Wrong longest railroad on a 5x5 grid!", 24, grid(5, 5));
+
+        CompactGraph graph = new CompactGraph(10);
+        LongestRailroad railroad = new LongestRailroad(graph);
+        for (int i = 0; i < 10; i++) {
+            for (int j = i + 1; j < 10; j++) {
+                railroad.edgeAdded(graph.addEdge(i, j), 1);
+            }
+        }
+        assertEquals("Wrong longest railroad on 45 routes between 10 stations!", 9, railroad.getLongest());
+        assertEquals("The searches took too long!", true, System.nanoTime() - start < 5_000_000_000L);
+    }
+
+    /**
+     * Claims every route of a grid with one track per route, row by row
+     *
+     * @param rows number of rows of stations
+     * @param cols number of columns of stations
+     * @return the longest railroad once every route is claimed
+     */
+    private static int grid(int rows, int cols) {
+        CompactGraph graph = new CompactGraph(rows * cols);
+        LongestRailroad railroad = new LongestRailroad(graph);
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                if (j + 1 < cols){
+                    railroad.edgeAdded(graph.addEdge(i * cols + j, i * cols + j + 1), 1);
+                }
+                if (i + 1 < rows){
+                    railroad.edgeAdded(graph.addEdge(i * cols + j, (i + 1) * cols + j), 1);
+                }
+            }
+        }
+        return railroad.getLongest();
+    }
+}
@@ -0,0 +1,77 @@
+package student;
+
+import model.RailroadBaronsException;
+import model.RailroadMap;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * tests for MapCache
+ * @author Shannon & Brennan
+ */
+class MapCacheTest {
+
+    /**
+     * map used by the tests
+     */
+    private static final String TEXT = "0 1 2 Rochester\n1 1 6 Buffalo\n2 4 2 Ithaca\n##ROUTES##\n0 1 UNCLAIMED\n0 2 RED\n";
+
+    /**
+     * tests that a second load shares the template and gets its own owners
+     */
+    @Test
+    public void load() throws IOException, RailroadBaronsException {
+        Path file = Files.createTempFile("cache", ".rbmap");
+        Files.write(file, TEXT.getBytes());
+        MapCache cache = new MapCache(MapCache.DEFAULT_BUDGET);
+        RailroadMapImplementation first = cache.load(file);
+        first.getRoute(1, 3).claim(model.Baron.BLUE);
+        RailroadMapImplementation second = cache.load(file);
+        assertEquals("The second load should be a hit!", 1L, cache.getHits());
+        assertEquals("The maps should share the template!", first.getTemplate(), second.getTemplate());
+        assertEquals("The second map should not see the claim!", model.Baron.UNCLAIMED, second.getRoute(1, 3).getBaron());
+        Files.delete(file);
+    }
+
+    /**
+     * tests that a changed file is parsed again
+     */
+    @Test
+    public void changedFile() throws IOException, RailroadBaronsException {
+        Path file = Files.createTempFile("cache", ".rbmap");
+        Files.write(file, TEXT.getBytes());
+        MapCache cache = new MapCache(MapCache.DEFAULT_BUDGET);
+        cache.load(file);
+        Files.write(file, TEXT.replace("0 2 RED", "0 2 BLUE").getBytes());
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 2000));
+        RailroadMap map = cache.load(file);
+        assertEquals("The changed file should be parsed again!", 2L, cache.getMisses());
+        assertEquals("The new owner should be read!", model.Baron.BLUE, map.getRoute(2, 2).getBaron());
+        Files.delete(file);
+    }
+
+    /**
+     * tests that the least recently used template is evicted
+     */
+    @Test
+    public void evict() throws IOException, RailroadBaronsException {
+        Path first = Files.createTempFile("cache", ".rbmap");
+        Path second = Files.createTempFile("cache", ".rbmap");
+        Files.write(first, TEXT.getBytes());
+        Files.write(second, TEXT.getBytes());
+        MapCache cache = new MapCache(0);
+        cache.load(first);
+        cache.load(second);
+        assertEquals("Only the newest template should be kept!", 1, cache.getCount());
+        cache.load(second);
+        assertEquals("The newest template should be a hit!", 1L, cache.getHits());
+        Files.delete(first);
+        Files.delete(second);
+    }
+}
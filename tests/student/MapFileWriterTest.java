@@ -0,0 +1,95 @@
+package student;
+
+import model.Baron;
+import model.RailroadBaronsException;
+import model.RailroadMap;
+import model.Route;
+import model.Station;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * tests for MapFileWriter
+ * @author Shannon & Brennan
+ */
+class MapFileWriterTest {
+
+    /**
+     * tests that every bundled map reads back the same after it is written
+     */
+    @Test
+    public void bundledMaps() throws IOException, RailroadBaronsException {
+        MapMakerImplementation maker = new MapMakerImplementation();
+        maker.setMapCache(null);
+        int maps = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(Paths.get("maps"), "*.rbmap")) {
+            for (Path file: files) {
+                RailroadMap map = maker.readMap(file);
+                assertEquals("Wrong map after writing " + file + "!", describe(map), describe(roundTrip(map, 4096)));
+                maps++;
+            }
+        }
+        assertEquals("The bundled maps were not found!", true, maps > 0);
+    }
+
+    /**
+     * tests station names longer than the buffer, which are written around it
+     */
+    @Test
+    public void longNames() throws IOException, RailroadBaronsException {
+        char[] letters = new char[300];
+        Arrays.fill(letters, 'x');
+        String name = "Long" + new String(letters);
+        Station origin = new StationImplementation(0, 0, 0, name);
+        Station destination = new StationImplementation(1, 0, 4, "Short");
+        Set<Route> routes = new HashSet<>();
+        routes.add(new RouteImplementation(origin, destination, Baron.YELLOW));
+        RailroadMap map = new RailroadMapImplementation(routes, Arrays.asList(origin, destination));
+
+        RailroadMap read = roundTrip(map, 64);
+        assertEquals("Wrong map after writing a long name!", describe(map), describe(read));
+        assertEquals("Wrong long name!", name, read.getRoute(0, 1).getOrigin().getName());
+    }
+
+    /**
+     * @param map a map
+     * @param bufferSize size of the writer's buffer
+     * @return the map read back from what the writer wrote
+     */
+    private static RailroadMap roundTrip(RailroadMap map, int bufferSize) throws IOException, RailroadBaronsException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new MapFileWriter(bufferSize).write(map, out);
+        return new MapMakerImplementation().readMap(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    /**
+     * @param map a map
+     * @return every route with the locations and names of its stations and its owner, sorted
+     */
+    private static List<String> describe(RailroadMap map) {
+        List<String> routes = new ArrayList<>();
+        for (Route route: map.getRoutes()) {
+            routes.add(describe(route.getOrigin()) + " " + describe(route.getDestination()) + " " + route.getBaron());
+        }
+        Collections.sort(routes);
+        return routes;
+    }
+
+    /**
+     * @param station a station
+     * @return the location and name of the station
+     */
+    private static String describe(Station station) {
+        return "(" + station.getRow() + ", " + station.getCol() + ") " + station.getName();
+    }
+}
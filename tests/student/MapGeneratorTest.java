@@ -0,0 +1,48 @@
+package student;
+
+import model.RailroadBaronsException;
+import model.RailroadMap;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * tests for MapGenerator
+ * @author Shannon & Brennan
+ */
+class MapGeneratorTest {
+
+    /**
+     * tests that the same seed writes the same map
+     */
+    @Test
+    public void deterministic() throws IOException {
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+        new MapGenerator(30, 40, 42).write(first);
+        new MapGenerator(30, 40, 42).write(second);
+        assertEquals("The same seed should give the same map!", true,
+                Arrays.equals(first.toByteArray(), second.toByteArray()));
+    }
+
+    /**
+     * tests that the written map is the generated map
+     */
+    @Test
+    public void writeMatchesGenerate() throws IOException, RailroadBaronsException {
+        MapGenerator generator = new MapGenerator(30, 40, 42);
+        generator.setBoundaryStations(4);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        generator.write(out);
+        RailroadMap parsed = new MapMakerImplementation().readMap(new ByteArrayInputStream(out.toByteArray()));
+        RailroadMapImplementation generated = generator.generate();
+        assertEquals("The maps should have the same routes!", generated.getRoutes().size(), parsed.getRoutes().size());
+        assertEquals("The maps should have the same columns!", generated.getCols(), parsed.getCols());
+        assertEquals("Each side should have 4 stations!", 4, generated.getBoundaryStations().get("North").size());
+    }
+}
@@ -1,7 +1,43 @@
 package student;
 
-import static org.junit.jupiter.api.Assertions.*;
+import model.RailroadBaronsException;
+import model.RailroadMap;
+import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * tests for MapMakerImplementation
+ * @author Shannon & Brennan
+ */
 class MapMakerImplementationTest {
 
-}
\ No newline at end of file
+    /**
+     * tests that stations and routes are read from the text format
+     */
+    @Test
+    public void readMap() throws RailroadBaronsException {
+        String text = "0 1 2 Rochester\n1 1 6 Buffalo\n2 4 2 Ithaca\n##ROUTES##\n0 1 UNCLAIMED\n0 2 RED\n";
+        RailroadMap map = new MapMakerImplementation().readMap(new ByteArrayInputStream(text.getBytes()));
+        assertEquals("The map should have 2 routes!", 2, map.getRoutes().size());
+        assertEquals("The route should have 3 tracks!", 3, map.getRoute(1, 3).getLength());
+        assertEquals("The route should be claimed by red!", model.Baron.RED, map.getRoute(2, 2).getBaron());
+    }
+
+    /**
+     * tests that problems are reported with their line number
+     */
+    @Test
+    public void readMapError() {
+        String text = "0 1 2 Rochester\n1 1 6 Buffalo\n##ROUTES##\n0 1 UNCLAIMED\n0 1 PURPLE\n";
+        String message = null;
+        try {
+            new MapMakerImplementation().readMap(new ByteArrayInputStream(text.getBytes()));
+        } catch (RailroadBaronsException e) {
+            message = e.getMessage();
+        }
+        assertEquals("The problem should be reported on line 5!", "Line 5: unknown baron PURPLE", message);
+    }
+}
@@ -0,0 +1,51 @@
+package student;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * tests for MapValidator
+ * @author Shannon & Brennan
+ */
+class MapValidatorTest {
+
+    /**
+     * tests that a valid map has no problems
+     */
+    @Test
+    public void valid() {
+        MapValidator validator = new MapValidator();
+        validator.addStation(0, 0, 0, 1);
+        validator.addStation(1, 0, 4, 2);
+        validator.addStation(2, 3, 0, 3);
+        validator.addRoute(0, 1, 5);
+        validator.addRoute(0, 2, 6);
+        assertEquals("There should be no problems!", 0, validator.getProblems().size());
+    }
+
+    /**
+     * tests that every problem is reported in line order
+     */
+    @Test
+    public void problems() {
+        MapValidator validator = new MapValidator();
+        validator.addStation(0, 0, 0, 1);
+        validator.addStation(1, 0, 4, 2);
+        validator.addStation(2, -1, 2, 3);
+        validator.addStation(3, 2, 2, 4);
+        validator.addStation(4, 2, 2, 5);
+        validator.addStation(5, 0, 2, 6);
+        validator.addRoute(1, 0, 8);
+        validator.addRoute(0, 7, 9);
+        validator.addRoute(0, 1, 10);
+        assertEquals("Every problem should be reported!", Arrays.asList(
+                "Line 3: station 2 is out of range at (-1, 2)",
+                "Line 5: station 4 is on the same space as another station",
+                "Line 8: route 1 0 must run east or south from its origin",
+                "Line 9: unknown station 7",
+                "Line 10: route 0 1 overlaps another route or station at (0, 2)"), validator.getProblems());
+    }
+}
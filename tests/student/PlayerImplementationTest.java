@@ -1,6 +1,14 @@
 package student;
 
-import static org.junit.jupiter.api.Assertions.*;
+import model.Baron;
+import model.Card;
+import model.Route;
+import model.Station;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.assertEquals;
 
 /**
  * tests for PlayerImplementation
@@ -8,6 +16,60 @@ import static org.junit.jupiter.api.Assertions.*;
  */
 class PlayerImplementationTest {
 
-    
+    /**
+     * tests that dealt cards are counted by color
+     */
+    @Test
+    public void countCards() {
+        PlayerImplementation player = new PlayerImplementation(Baron.RED);
+        player.reset(Card.BLUE, Card.BLUE, Card.WILD, Card.NONE);
+        assertEquals("Wrong number of blue cards!", 2, player.countCardsInHand(Card.BLUE));
+        assertEquals("Wrong number of wild cards!", 1, player.countCardsInHand(Card.WILD));
+        assertEquals("Wrong number of red cards!", 0, player.countCardsInHand(Card.RED));
+    }
+
+    /**
+     * tests that a single wild card can lengthen the largest color
+     */
+    @Test
+    public void sufficientCards() {
+        PlayerImplementation player = new PlayerImplementation(Baron.RED);
+        player.reset(Card.BLUE, Card.BLUE, Card.GREEN, Card.WILD);
+        assertEquals("Two blue and a wild should claim length 3!", true, player.sufficientCards(3));
+        assertEquals("Only one wild card may be used!", false, player.sufficientCards(4));
+        player.reset(Card.WILD, Card.WILD, Card.WILD, Card.WILD);
+        assertEquals("Wild cards alone should not claim a route!", false, player.sufficientCards(1));
+    }
+
+    /**
+     * tests that claiming a route across the map adds the bonus once and that reading the
+     * score does not change it
+     */
+    @Test
+    public void score() throws Exception {
+        Station west = new StationImplementation(0, 0, 0, "A");
+        Station middle = new StationImplementation(1, 0, 3, "B");
+        Station east = new StationImplementation(2, 0, 6, "C");
+        Set<Route> routes = new HashSet<>();
+        routes.add(new RouteImplementation(west, middle, Baron.UNCLAIMED));
+        routes.add(new RouteImplementation(middle, east, Baron.UNCLAIMED));
+        RailroadMapImplementation map = new RailroadMapImplementation(routes, Arrays.asList(west, middle, east));
+        PlayerImplementation player = new PlayerImplementation(Baron.RED);
+        player.addBoardSize(map.getRows(), map.getCols());
+        player.addRouteNetwork(map.getRouteNetwork());
+        player.reset(Card.BLUE, Card.BLUE, Card.BLUE, Card.BLUE);
+        player.startTurn(new PairImplementation(Card.NONE, Card.NONE));
+        assertEquals("Score should start at 0!", 0, player.getScore());
 
-}
\ No newline at end of file
+        Route first = map.getRoute(0, 1);
+        player.claimRoute(first);
+        assertEquals("Wrong score without a bonus!", first.getPointValue(), player.getScore());
+        Route second = map.getRoute(0, 4);
+        player.claimRoute(second);
+        int expected = first.getPointValue() + second.getPointValue() + 5 * map.getCols();
+        assertEquals("Wrong score with west to east bonus!", expected, player.getScore());
+        assertEquals("Reading the score should not change it!", expected, player.getScore());
+        player.reset();
+        assertEquals("Score not cleared by reset!", 0, player.getScore());
+    }
+}
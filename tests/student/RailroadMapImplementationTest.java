@@ -1,7 +1,74 @@
 package student;
 
-import static org.junit.jupiter.api.Assertions.*;
+import model.Baron;
+import model.Route;
+import model.Station;
+import org.junit.jupiter.api.Test;
 
+import java.util.*;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * tests for RailroadMapImplementation
+ * @author Shannon & Brennan
+ */
 class RailroadMapImplementationTest {
 
-}
\ No newline at end of file
+    /**
+     * tests that games sharing a template keep their own owners
+     */
+    @Test
+    public void newGame() {
+        Station origin = new StationImplementation(0, 0, 0, "A");
+        Station destination = new StationImplementation(1, 0, 3, "B");
+        Set<Route> routes = new HashSet<>();
+        routes.add(new RouteImplementation(origin, destination, Baron.UNCLAIMED));
+        RailroadMapImplementation game1 = new RailroadMapImplementation(routes, Arrays.asList(origin, destination));
+        RailroadMapImplementation game2 = game1.newGame();
+
+        Route route = game1.getRoute(0, 1);
+        assertEquals("The route should be claimed!", true, route.claim(Baron.RED));
+        game1.routeClaimed(route);
+        assertEquals("The route should be claimed in the first game!", Baron.RED,
+                game1.getRoute(0, 2).getBaron());
+        assertEquals("The track should belong to the claimed route!", Baron.RED,
+                ((model.Track) game1.getSpace(0, 2)).getBaron());
+        assertEquals("The route should be unclaimed in the second game!", Baron.UNCLAIMED,
+                game2.getRoute(0, 1).getBaron());
+        assertEquals("The second game should have an unclaimed route!", 2,
+                game2.getLengthOfShortestUnclaimedRoute());
+    }
+
+    /**
+     * tests that the routes and boundaries shared through the template cannot be changed
+     */
+    @Test
+    public void readOnlyTemplate() {
+        Station origin = new StationImplementation(0, 0, 0, "A");
+        Station destination = new StationImplementation(1, 0, 3, "B");
+        Set<Route> routes = new HashSet<>();
+        routes.add(new RouteImplementation(origin, destination, Baron.UNCLAIMED));
+        MapTemplate template = new RailroadMapImplementation(routes, Arrays.asList(origin, destination)).getTemplate();
+
+        Route route = template.getRouteList().get(0);
+        boolean claimed;
+        try {
+            claimed = route.claim(Baron.RED);
+        } catch (UnsupportedOperationException e) {
+            claimed = false;
+        }
+        assertEquals("A route of the template should not be claimed!", false, claimed);
+        assertEquals("The route should stay unclaimed!", Baron.UNCLAIMED, route.getBaron());
+        assertEquals("The route should keep its index!", 0, template.getRouteIndex(route));
+
+        boolean added;
+        try {
+            added = template.getBoundaryStations().get("North").add(destination);
+        } catch (UnsupportedOperationException e) {
+            added = false;
+        }
+        assertEquals("A boundary of the template should not be modified!", false, added);
+        assertEquals("The boundary should keep its stations!", 2, template.getBoundaryStations().get("North").size());
+    }
+}
@@ -0,0 +1,37 @@
+package student;
+
+import model.Baron;
+import model.Route;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * tests for RouteLengthIndex
+ * @author Shannon & Brennan
+ */
+class RouteLengthIndexTest {
+
+    /**
+     * tests that the shortest and longest lengths follow the routes being claimed
+     */
+    @Test
+    public void claimed() {
+        Route shortRoute = new RouteImplementation(new StationImplementation(0, 0, 0, "A"),
+                new StationImplementation(1, 0, 2, "B"), Baron.UNCLAIMED);
+        Route longRoute = new RouteImplementation(new StationImplementation(2, 2, 0, "C"),
+                new StationImplementation(3, 2, 6, "D"), Baron.UNCLAIMED);
+        RouteLengthIndex index = new RouteLengthIndex(Arrays.asList(shortRoute, longRoute));
+        assertEquals("The shortest route should have 1 track!", 1, index.getShortest());
+        assertEquals("The longest route should have 5 tracks!", 5, index.getLongest());
+
+        index.claimed(shortRoute);
+        assertEquals("The shortest route should have 5 tracks!", 5, index.getShortest());
+        assertEquals("No route with 1 track should be unclaimed!", 0, index.count(1));
+
+        index.claimed(longRoute);
+        assertEquals("Every route should be claimed!", 0, index.getShortest());
+    }
+}
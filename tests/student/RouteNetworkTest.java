@@ -0,0 +1,89 @@
+package student;
+
+import model.Baron;
+import model.Route;
+import model.Station;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * tests for RouteNetwork
+ * @author Shannon & Brennan
+ */
+class RouteNetworkTest {
+
+    /**
+     * Three stations along the north edge joined by two routes of 2 tracks, and two
+     * stations along the south edge joined directly by a route of 5 tracks
+     *
+     * @return the map
+     */
+    private static RailroadMapImplementation createMap() {
+        Station a = new StationImplementation(0, 0, 0, "A");
+        Station b = new StationImplementation(1, 0, 3, "B");
+        Station c = new StationImplementation(2, 0, 6, "C");
+        Station d = new StationImplementation(3, 2, 0, "D");
+        Station e = new StationImplementation(4, 2, 6, "E");
+        Set<Route> routes = new LinkedHashSet<>();
+        routes.add(new RouteImplementation(a, b, Baron.UNCLAIMED));
+        routes.add(new RouteImplementation(b, c, Baron.UNCLAIMED));
+        routes.add(new RouteImplementation(d, e, Baron.UNCLAIMED));
+        return new RailroadMapImplementation(routes, Arrays.asList(a, b, c, d, e));
+    }
+
+    /**
+     * tests that a path of two routes across the map wins the west to east bonus
+     */
+    @Test
+    public void longPathBonus() {
+        RailroadMapImplementation map = createMap();
+        RouteNetwork network = map.getRouteNetwork();
+        network.claim(map.getRoute(0, 1), Baron.RED);
+        assertEquals("Half way across should not win the bonus!", false, network.hasWestEastPath(Baron.RED));
+        network.claim(map.getRoute(0, 4), Baron.RED);
+        assertEquals("The path across should win the bonus!", true, network.hasWestEastPath(Baron.RED));
+        assertEquals("No path joins north and south!", false, network.hasNorthSouthPath(Baron.RED));
+        assertEquals("The ends should be connected!", true, network.connected(Baron.RED,
+                map.getStations().get(0), map.getStations().get(2)));
+    }
+
+    /**
+     * tests that a single route from the west edge to the east edge denies the bonus
+     */
+    @Test
+    public void shortcutDenied() {
+        RailroadMapImplementation map = createMap();
+        RouteNetwork network = map.getRouteNetwork();
+        network.claim(map.getRoute(2, 3), Baron.BLUE);
+        assertEquals("A single route across should not win the bonus!", false,
+                network.hasWestEastPath(Baron.BLUE));
+
+        network.claim(map.getRoute(0, 1), Baron.BLUE);
+        network.claim(map.getRoute(0, 4), Baron.BLUE);
+        assertEquals("The shortcut should deny the bonus for good!", false, network.hasWestEastPath(Baron.BLUE));
+    }
+
+    /**
+     * tests that each baron's longest railroad only counts its own routes of the shared graph
+     */
+    @Test
+    public void sharedLongestRailroad() {
+        RailroadMapImplementation map = createMap();
+        RouteNetwork network = map.getRouteNetwork();
+        network.claim(map.getRoute(0, 1), Baron.RED);
+        network.claim(map.getRoute(0, 4), Baron.BLUE);
+        network.claim(map.getRoute(2, 3), Baron.BLUE);
+        assertEquals("Wrong longest railroad for red!", 2, network.getLongestRailroad(Baron.RED));
+        assertEquals("Wrong longest railroad for blue!", 5, network.getLongestRailroad(Baron.BLUE));
+        assertEquals("Red and blue routes should not connect!", false, network.connected(Baron.RED,
+                map.getStations().get(0), map.getStations().get(2)));
+
+        RouteNetwork other = new RouteNetwork(network);
+        assertEquals("Another game should start without railroads!", 0, other.getLongestRailroad(Baron.BLUE));
+        network.reset();
+        assertEquals("Reset should clear the railroads!", 0, network.getLongestRailroad(Baron.RED));
+    }
+}
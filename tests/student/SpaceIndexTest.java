@@ -0,0 +1,50 @@
+package student;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * tests for SpaceIndex
+ * @author Shannon & Brennan
+ */
+class SpaceIndexTest {
+
+    /**
+     * tests that stored spaces are found after the index grows, and empty locations are not
+     */
+    @Test
+    public void getSpace() {
+        SpaceIndex index = new SpaceIndex(1);
+        for (int i = 0; i < 1000; i++) {
+            index.putSpace(i * 97, i * 31, new SpaceImplementation(i * 97, i * 31));
+        }
+        assertEquals("Every location should be stored!", 1000, index.size());
+        assertEquals("This space should be stored!", 97 * 500,
+                index.getSpace(97 * 500, 31 * 500).getRow());
+        assertEquals("This location should be empty!", null, index.getSpace(31, 97));
+        assertEquals("No route should be stored here!", null, index.getRoute(0, 0));
+    }
+
+    /**
+     * tests that the table is sized for the expected locations, and that more locations
+     * than the largest table can hold are rejected instead of overflowing the size
+     */
+    @Test
+    public void capacity() {
+        SpaceIndex index = new SpaceIndex(100);
+        for (int i = 0; i < 100; i++) {
+            index.putSpace(i, i, new SpaceImplementation(i, i));
+        }
+        assertEquals("Every location should be stored!", 100, index.size());
+        assertEquals("This space should be stored!", 99, index.getSpace(99, 99).getCol());
+        for (int expected: new int[] {(1 << 29) + 1, Integer.MAX_VALUE / 2 + 1, Integer.MAX_VALUE}) {
+            String message = null;
+            try {
+                new SpaceIndex(expected);
+            } catch (IllegalArgumentException e) {
+                message = e.getMessage();
+            }
+            assertEquals("The size should be rejected!", "Too many locations for the index: " + expected, message);
+        }
+    }
+}
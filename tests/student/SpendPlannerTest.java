@@ -0,0 +1,91 @@
+package student;
+
+import model.Card;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * tests for SpendPlanner
+ * @author Shannon & Brennan
+ */
+class SpendPlannerTest {
+
+    /**
+     * tests that a color held exactly as many times as the route is long is preferred
+     */
+    @Test
+    public void exactMatch() {
+        SpendPlanner hand = new SpendPlanner();
+        for (int i = 0; i < 5; i++) {
+            hand.add(Card.RED);
+        }
+        for (int i = 0; i < 3; i++) {
+            hand.add(Card.BLUE);
+        }
+        int plan = hand.plan(3, 45);
+        assertEquals("Wrong color for exact match!", Card.BLUE, SpendPlanner.getColor(plan));
+        assertEquals("Wrong number of cards for exact match!", 3, SpendPlanner.getColorCards(plan));
+        assertEquals("Wild card used for exact match!", 0, SpendPlanner.getWildCards(plan));
+    }
+
+    /**
+     * tests that the color held the fewest times that is enough is chosen, and that
+     * planning does not change the hand
+     */
+    @Test
+    public void fewestSufficient() {
+        SpendPlanner hand = new SpendPlanner();
+        for (int i = 0; i < 6; i++) {
+            hand.add(Card.RED);
+        }
+        for (int i = 0; i < 4; i++) {
+            hand.add(Card.GREEN);
+        }
+        int plan = hand.plan(2, 45);
+        assertEquals("Wrong color chosen!", Card.GREEN, SpendPlanner.getColor(plan));
+        assertEquals("Wrong number of cards!", 2, SpendPlanner.getColorCards(plan));
+        assertEquals("Plan changed the hand!", 4, hand.count(Card.GREEN));
+        hand.spend(plan);
+        assertEquals("Cards not spent!", 2, hand.count(Card.GREEN));
+        assertEquals("Wrong largest count after spending!", 6, hand.getMaxNonWild());
+    }
+
+    /**
+     * tests that a wild card is only used when one color is a card short
+     */
+    @Test
+    public void wildFallback() {
+        SpendPlanner hand = new SpendPlanner();
+        hand.add(Card.WILD);
+        assertEquals("Planned with only a wild card!", SpendPlanner.NO_PLAN, hand.plan(2, 45));
+        hand.add(Card.PINK);
+        int plan = hand.plan(2, 45);
+        assertEquals("Wrong color with wild card!", Card.PINK, SpendPlanner.getColor(plan));
+        assertEquals("Wild card not used!", 1, SpendPlanner.getWildCards(plan));
+        hand.spend(plan);
+        assertEquals("Wild card not spent!", 0, hand.count(Card.WILD));
+        assertEquals("Planned with an empty hand!", SpendPlanner.NO_PLAN, hand.plan(1, 45));
+    }
+
+    /**
+     * tests that a color a card short is not planned without a wild card, and the
+     * fewest sufficient color is used instead
+     */
+    @Test
+    public void noWild() {
+        SpendPlanner hand = new SpendPlanner();
+        for (int i = 0; i < 5; i++) {
+            hand.add(Card.BLUE);
+        }
+        hand.add(Card.RED);
+        hand.add(Card.RED);
+        int plan = hand.plan(3, 4);
+        assertEquals("Wrong color without a wild card!", Card.BLUE, SpendPlanner.getColor(plan));
+        assertEquals("Wrong number of cards without a wild card!", 3, SpendPlanner.getColorCards(plan));
+        assertEquals("Planned a wild card that is not held!", 0, SpendPlanner.getWildCards(plan));
+        hand.spend(plan);
+        assertEquals("Wild cards went negative!", 0, hand.count(Card.WILD));
+        assertEquals("Red cards spent!", 2, hand.count(Card.RED));
+    }
+}
@@ -0,0 +1,94 @@
+package student;
+
+import model.RailroadBaronsException;
+import model.Route;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * tests for StationDistances
+ * @author Shannon & Brennan
+ */
+class StationDistancesTest {
+
+    /**
+     * tests the distances of every bundled map against a plain all-pairs search
+     */
+    @Test
+    public void bundledMaps() throws IOException, RailroadBaronsException {
+        MapMakerImplementation maker = new MapMakerImplementation();
+        maker.setMapCache(null);
+        int maps = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(Paths.get("maps"), "*.rbmap")) {
+            for (Path file: files) {
+                compare(((RailroadMapImplementation) maker.readMap(file)).getTemplate());
+                maps++;
+            }
+        }
+        assertEquals("The bundled maps were not found!", true, maps > 0);
+    }
+
+    /**
+     * tests a generated map with too many stations for the byte table, some of them
+     * not connected to each other
+     */
+    @Test
+    public void generatedMap() {
+        MapGenerator generator = new MapGenerator(16, 16, 7);
+        generator.setDensity(0.8);
+        generator.setRouteDensity(0.6);
+        MapTemplate template = generator.generate().getTemplate();
+        assertEquals("The map should need the larger table!", true, template.getStations().size() > Byte.MAX_VALUE);
+        compare(template);
+    }
+
+    /**
+     * Compares the distances of a map with Floyd-Warshall over its routes
+     *
+     * @param template the map
+     */
+    private static void compare(MapTemplate template) {
+        int n = template.getStations().size();
+        int unreachable = Integer.MAX_VALUE / 2;
+        int[][] hops = new int[n][n];
+        int[][] tracks = new int[n][n];
+        for (int i = 0; i < n; i++) {
+            Arrays.fill(hops[i], unreachable);
+            Arrays.fill(tracks[i], unreachable);
+            hops[i][i] = 0;
+            tracks[i][i] = 0;
+        }
+        for (Route route: template.getRoutes()) {
+            int a = template.getStationIndex(route.getOrigin());
+            int b = template.getStationIndex(route.getDestination());
+            hops[a][b] = hops[b][a] = 1;
+            tracks[a][b] = tracks[b][a] = Math.min(tracks[a][b], route.getLength());
+        }
+        for (int k = 0; k < n; k++) {
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    hops[i][j] = Math.min(hops[i][j], hops[i][k] + hops[k][j]);
+                    tracks[i][j] = Math.min(tracks[i][j], tracks[i][k] + tracks[k][j]);
+                }
+            }
+        }
+        StationDistances distances = template.getDistances();
+        assertEquals("Wrong number of stations!", n, distances.getStationCount());
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                assertEquals("Wrong hops from " + i + " to " + j + "!",
+                        hops[i][j] == unreachable ? -1 : hops[i][j], distances.getHops(i, j));
+                assertEquals("Wrong tracks from " + i + " to " + j + "!",
+                        tracks[i][j] == unreachable ? -1 : tracks[i][j], distances.getTrackLength(i, j));
+            }
+        }
+    }
+}
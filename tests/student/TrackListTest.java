@@ -0,0 +1,76 @@
+package student;
+
+import model.Baron;
+import model.Route;
+import model.Station;
+import model.Track;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * tests for TrackList
+ * @author Shannon & Brennan
+ */
+class TrackListTest {
+
+    /**
+     * tests the tracks of a horizontal route against tracks built one column at a time
+     */
+    @Test
+    public void horizontal() {
+        Station origin = new StationImplementation(0, 2, 3, "A");
+        Station destination = new StationImplementation(1, 2, 9, "B");
+        compare(new RouteImplementation(origin, destination, Baron.UNCLAIMED));
+    }
+
+    /**
+     * tests the tracks of a vertical route against tracks built one row at a time
+     */
+    @Test
+    public void vertical() {
+        Station origin = new StationImplementation(0, 1, 4, "A");
+        Station destination = new StationImplementation(1, 5, 4, "B");
+        compare(new RouteImplementation(origin, destination, Baron.GREEN));
+    }
+
+    /**
+     * Compares the lazy tracks of a route with eagerly built tracks
+     *
+     * @param route a route running east or south
+     */
+    private static void compare(Route route) {
+        Station origin = route.getOrigin();
+        Station destination = route.getDestination();
+        List<Track> expected = new ArrayList<>();
+        for (int row = origin.getRow(); row <= destination.getRow(); row++) {
+            for (int col = origin.getCol(); col <= destination.getCol(); col++) {
+                if ((row != origin.getRow() || col != origin.getCol())
+                        && (row != destination.getRow() || col != destination.getCol())){
+                    expected.add(new TrackImplementation(route, row, col));
+                }
+            }
+        }
+
+        TrackList tracks = new TrackList(route);
+        assertEquals("Wrong number of tracks!", expected.size(), tracks.size());
+        for (int i = expected.size() - 1; i >= 0; i--) {
+            Track track = tracks.get(i);
+            assertEquals("Wrong row of track " + i + "!", expected.get(i).getRow(), track.getRow());
+            assertEquals("Wrong column of track " + i + "!", expected.get(i).getCol(), track.getCol());
+            assertEquals("Wrong route of track " + i + "!", route, track.getRoute());
+            assertEquals("Wrong baron of track " + i + "!", route.getBaron(), track.getBaron());
+            assertEquals("Track " + i + " should be kept!", true, track == tracks.get(i));
+            assertEquals("Wrong offset of track " + i + "!", i, TrackList.offsetOf(route, track.getRow(), track.getCol()));
+        }
+        assertEquals("The origin is not a track!", -1, TrackList.offsetOf(route, origin.getRow(), origin.getCol()));
+        assertEquals("The destination is not a track!", -1,
+                TrackList.offsetOf(route, destination.getRow(), destination.getCol()));
+        assertEquals("Beside the route is not a track!", -1,
+                TrackList.offsetOf(route, origin.getRow() + 1, origin.getCol() + 1));
+        assertEquals("Wrong tracks as a list!", expected.size(), new ArrayList<>(tracks).size());
+    }
+}